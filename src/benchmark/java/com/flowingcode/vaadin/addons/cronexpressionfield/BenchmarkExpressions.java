@@ -0,0 +1,44 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+/** Corpus of expressions used by the benchmarks. */
+enum BenchmarkExpressions {
+
+  /** Expressions that fire once a day or less, on ordinary days. */
+  SIMPLE("0 0 12 * * ?", "0 0 0 * * *", "0 30 9 * * MON-FRI", "0 0 0 1 * ?", "0 15 10 ? * SAT,SUN"),
+
+  /** Expressions that fire every few seconds or minutes. */
+  DENSE("* * * * * *", "*/5 * * * * *", "0 * * * * *", "0,15,30,45 * 8-17 * * MON-FRI", "*/10 */2 * * * *"),
+
+  /** Expressions that fire a few times a year or less. */
+  SPARSE("0 0 0 29 2 ?", "0 0 0 13 * FRI", "0 0 12 31 DEC ?", "0 0 0 1 1 MON", "0 0 6 1-7 6 SUN");
+
+  private final String[] expressions;
+
+  private BenchmarkExpressions(String... expressions) {
+    this.expressions = expressions;
+  }
+
+  String[] getExpressions() {
+    return expressions.clone();
+  }
+
+}
@@ -0,0 +1,124 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.scheduling.support.CronExpression;
+
+/** Benchmarks of the generation and the formatting of the next dates. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OccurrenceBenchmark {
+
+  private static final LocalDateTime ANCHOR = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+  private static final int PAGE_SIZE = 50;
+
+  @Param
+  BenchmarkExpressions corpus;
+
+  /** Offset of the page of next dates, as requested by the grid. */
+  @Param({"0", "10000"})
+  int offset;
+
+  private CronExpressionCache.Entry[] entries;
+
+  private OccurrenceIndex[] indexes;
+
+  private CronExpressionField field;
+
+  @Setup
+  public void setup() {
+    String[] expressions = corpus.getExpressions();
+    entries = new CronExpressionCache.Entry[expressions.length];
+    indexes = new OccurrenceIndex[expressions.length];
+    for (int i = 0; i < expressions.length; i++) {
+      entries[i] = CronExpressionCache.getInstance().get(expressions[i]);
+      indexes[i] = new OccurrenceIndex(entries[i], ANCHOR);
+      indexes[i].fetch(offset, PAGE_SIZE);
+    }
+    field = new CronExpressionField();
+  }
+
+  /** Fetches a page from a new index, as after a change of the expression. */
+  @Benchmark
+  public void fetchPageCold(Blackhole blackhole) {
+    for (CronExpressionCache.Entry entry : entries) {
+      blackhole.consume(new OccurrenceIndex(entry, ANCHOR).fetch(offset, PAGE_SIZE));
+    }
+  }
+
+  /** Fetches a page that was already fetched, as when scrolling back. */
+  @Benchmark
+  public void fetchPageWarm(Blackhole blackhole) {
+    for (OccurrenceIndex index : indexes) {
+      blackhole.consume(index.fetch(offset, PAGE_SIZE));
+    }
+  }
+
+  @Benchmark
+  public void nextCompiled(Blackhole blackhole) {
+    for (CronExpressionCache.Entry entry : entries) {
+      CompiledCronExpression compiled = entry.getCompiledExpression();
+      LocalDateTime date = ANCHOR;
+      for (int i = 0; i < PAGE_SIZE && date != null; i++) {
+        date = compiled.next(date);
+      }
+      blackhole.consume(date);
+    }
+  }
+
+  @Benchmark
+  public void nextSpring(Blackhole blackhole) {
+    for (CronExpressionCache.Entry entry : entries) {
+      CronExpression cron = entry.getCronExpression();
+      LocalDateTime date = ANCHOR;
+      for (int i = 0; i < PAGE_SIZE && date != null; i++) {
+        date = cron.next(date);
+      }
+      blackhole.consume(date);
+    }
+  }
+
+  @Benchmark
+  public void formatPage(Blackhole blackhole) {
+    for (LocalDateTime date : indexes[0].fetch(offset, PAGE_SIZE)) {
+      blackhole.consume(field.formatDate(date));
+    }
+  }
+
+}
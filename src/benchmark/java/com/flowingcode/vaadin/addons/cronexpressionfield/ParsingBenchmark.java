@@ -0,0 +1,93 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Benchmarks of the validation and the description of expressions, with and without the shared cache. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParsingBenchmark {
+
+  @Param
+  BenchmarkExpressions corpus;
+
+  private String[] expressions;
+
+  @Setup
+  public void setup() {
+    expressions = corpus.getExpressions();
+    for (String expression : expressions) {
+      CronExpressionCache.getInstance().get(expression).getDescription(Locale.ENGLISH);
+    }
+  }
+
+  @Benchmark
+  public void validateCached(Blackhole blackhole) {
+    for (String expression : expressions) {
+      blackhole.consume(CronExpressionCache.getInstance().get(expression).isValid());
+    }
+  }
+
+  @Benchmark
+  public void validateUncached(Blackhole blackhole) {
+    for (String expression : expressions) {
+      blackhole.consume(CronExpressionCache.parse(expression).isValid());
+    }
+  }
+
+  @Benchmark
+  public void validateAll(Blackhole blackhole) {
+    blackhole.consume(CronValidator.validateAll(Arrays.asList(expressions)));
+  }
+
+  @Benchmark
+  public void describeCached(Blackhole blackhole) {
+    for (String expression : expressions) {
+      blackhole.consume(CronExpressionCache.getInstance().get(expression).getDescription(Locale.ENGLISH));
+    }
+  }
+
+  @Benchmark
+  public void describeUncached(Blackhole blackhole) {
+    for (String expression : expressions) {
+      blackhole.consume(CronExpressionCache.parse(expression).getDescription(Locale.ENGLISH));
+    }
+  }
+
+}
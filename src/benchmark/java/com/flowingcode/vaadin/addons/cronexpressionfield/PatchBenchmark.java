@@ -0,0 +1,85 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the patches applied to the expression by the daily, weekly and monthly layouts, followed by the
+ * validation of the resulting expression.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PatchBenchmark {
+
+  private static final Set<DayOfWeek> WEEKDAYS =
+      EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY);
+
+  private CronExpressionModel model;
+
+  private int minute;
+
+  @Setup
+  public void setup() {
+    model = new CronExpressionModel("0 0 0 * * *");
+  }
+
+  @Benchmark
+  public void patchTime(Blackhole blackhole) {
+    minute = (minute + 1) % 60;
+    model.setTime(LocalTime.of(9, minute));
+    blackhole.consume(CronExpressionCache.getInstance().get(model.getExpression()).isValid());
+  }
+
+  @Benchmark
+  public void patchDaysOfWeek(Blackhole blackhole) {
+    model.setDaysOfWeek(WEEKDAYS);
+    model.setNoSpecificValue(CronFieldType.DAY_OF_MONTH);
+    blackhole.consume(CronExpressionCache.getInstance().get(model.getExpression()).isValid());
+  }
+
+  @Benchmark
+  public void patchMonthly(Blackhole blackhole) {
+    minute = (minute + 1) % 28;
+    model.setDayOfMonth(minute + 1);
+    model.setMonthInterval(3);
+    blackhole.consume(CronExpressionCache.getInstance().get(model.getExpression()).isValid());
+  }
+
+}
@@ -0,0 +1,72 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Executor of the background computations of all the components, such as the next dates and the load preview. */
+final class BackgroundExecutor {
+
+  private static volatile ExecutorService executor;
+
+  private BackgroundExecutor() {}
+
+  /** Returns the executor, creating the default one if no executor was set. */
+  static ExecutorService get() {
+    ExecutorService result = executor;
+    if (result == null) {
+      synchronized (BackgroundExecutor.class) {
+        result = executor;
+        if (result == null) {
+          executor = result = createDefault();
+        }
+      }
+    }
+    return result;
+  }
+
+  /** Replaces the executor. The previous executor is not shut down. */
+  static void set(ExecutorService executor) {
+    BackgroundExecutor.executor = Objects.requireNonNull(executor);
+  }
+
+  /**
+   * Creates an executor that starts a virtual thread per task when running on Java 21 or later, or a cached pool of
+   * daemon threads otherwise.
+   */
+  private static ExecutorService createDefault() {
+    try {
+      Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) method.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      AtomicInteger count = new AtomicInteger();
+      return Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "cron-expression-field-" + count.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+
+}
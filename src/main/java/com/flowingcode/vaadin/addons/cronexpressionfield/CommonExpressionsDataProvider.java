@@ -0,0 +1,147 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import com.vaadin.flow.data.provider.AbstractBackEndDataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.function.SerializableSupplier;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Paged and filterable data provider for large catalogs of common expressions.
+ *
+ * <p>
+ * Only the requested page of expressions is sent to the client. The filter typed by the user is matched on the server
+ * against both the expression and its description in the locale of the provider. Invalid expressions are skipped.
+ * The validity of the expressions and their descriptions are computed once per provider, without adding the expressions
+ * to the shared {@link CronExpressionCache}, so that browsing the catalog does not evict the expressions being edited.
+ *
+ * @see CronExpressionField#setCommonExpressionsDataProvider(com.vaadin.flow.data.provider.BackEndDataProvider)
+ */
+@SuppressWarnings("serial")
+public class CommonExpressionsDataProvider extends AbstractBackEndDataProvider<String, String> {
+
+  private final SerializableSupplier<Stream<String>> catalog;
+
+  private final boolean validated;
+
+  private Locale locale = Locale.ENGLISH;
+
+  private transient Map<String, Boolean> validity;
+
+  /** The lower case descriptions of the expressions in {@link #locale}. */
+  private transient Map<String, String> descriptions;
+
+  /**
+   * Creates a new data provider that streams the expressions returned by the given callback. The callback is invoked
+   * for each query, and the expressions it returns are validated the first time they are returned.
+   *
+   * @param catalog a callback that returns a stream of cron expressions
+   */
+  public CommonExpressionsDataProvider(SerializableSupplier<Stream<String>> catalog) {
+    this.catalog = Objects.requireNonNull(catalog);
+    validated = false;
+  }
+
+  /**
+   * Creates a new data provider for the given expressions. The expressions are validated in a single batch when the
+   * provider is created, and the invalid ones are discarded.
+   *
+   * @param expressions a collection of cron expressions
+   */
+  public CommonExpressionsDataProvider(Collection<String> expressions) {
+    List<String> validExpressions = CronValidator.validateAll(expressions).stream().filter(CronValidationResult::isValid)
+        .map(CronValidationResult::getExpression).toList();
+    catalog = validExpressions::stream;
+    validated = true;
+  }
+
+  private boolean isValid(String expression) {
+    if (expression == null || expression.isEmpty()) {
+      return false;
+    }
+    if (validity == null) {
+      validity = new ConcurrentHashMap<>();
+    }
+    return validity.computeIfAbsent(expression, CronValidator::isValid);
+  }
+
+  /** Returns whether the description of the given valid expression contains the given lower case filter. */
+  private boolean descriptionContains(String expression, String filter) {
+    if (descriptions == null) {
+      descriptions = new ConcurrentHashMap<>();
+    }
+    return descriptions.computeIfAbsent(expression,
+        e -> CronExpressionCache.lookup(e).getDescription(locale).toLowerCase(locale)).contains(filter);
+  }
+
+  /**
+   * Sets the locale in which the descriptions of the expressions are matched against the filter.
+   *
+   * @param locale the {@link Locale} to be used, or {@code null} for English
+   */
+  public void setLocale(Locale locale) {
+    locale = locale == null ? Locale.ENGLISH : locale;
+    if (!locale.equals(this.locale)) {
+      this.locale = locale;
+      descriptions = null;
+      refreshAll();
+    }
+  }
+
+  /**
+   * Returns the locale in which the descriptions of the expressions are matched against the filter.
+   *
+   * @return the {@link Locale} of the descriptions
+   */
+  public Locale getLocale() {
+    return locale;
+  }
+
+  @Override
+  protected Stream<String> fetchFromBackEnd(Query<String, String> query) {
+    return filter(query).skip(query.getOffset()).limit(query.getLimit());
+  }
+
+  @Override
+  protected int sizeInBackEnd(Query<String, String> query) {
+    return Math.toIntExact(filter(query).count());
+  }
+
+  private Stream<String> filter(Query<String, String> query) {
+    Stream<String> expressions = catalog.get();
+    if (!validated) {
+      expressions = expressions.filter(this::isValid);
+    }
+    String filter = query.getFilter().map(f -> f.trim().toLowerCase(locale)).orElse("");
+    if (filter.isEmpty()) {
+      return expressions;
+    }
+    return expressions.filter(
+        expression -> expression.toLowerCase(locale).contains(filter) || descriptionContains(expression, filter));
+  }
+
+}
@@ -0,0 +1,501 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.Objects;
+
+/**
+ * A cron expression compiled into one bitmask per field, which computes the next and previous occurrences with bit
+ * scans.
+ *
+ * <p>
+ * A compiled expression gives the same occurrences as Spring's {@code CronExpression}, but it only supports the syntax
+ * that can be represented as a bitmask: values, ranges, steps, lists and month and day names. Like Spring's, the
+ * day-of-month and day-of-week fields must both match. Expressions with the Quartz-style {@code L}, {@code W} and
+ * {@code #} specifiers, or with macros such as {@code @daily}, cannot be compiled.
+ *
+ * <p>
+ * Instances are immutable and thread-safe. Computing an occurrence allocates no objects other than the returned
+ * {@link LocalDateTime}, and the occurrences in a range are counted without computing them.
+ */
+@SuppressWarnings("serial")
+public final class CompiledCronExpression implements Serializable {
+
+  /** Number of years searched for an occurrence before giving up. */
+  private static final int MAXIMUM_YEARS = 400;
+
+  /** Number of years after which the Gregorian calendar repeats, including the days of the week. */
+  private static final int CYCLE_YEARS = 400;
+
+  private static final int SECONDS_PER_DAY = 86400;
+
+  private static final int[] MONTH_OFFSETS = {0, 3, 2, 5, 0, 3, 5, 1, 4, 6, 2, 4};
+
+  private final String expression;
+
+  private final long seconds;
+
+  private final long minutes;
+
+  private final long hours;
+
+  private final int daysOfMonth;
+
+  private final int months;
+
+  /** Days of the month matched by the day-of-week field, indexed by the day of the week of the first day. */
+  private final int[] daysOfWeek = new int[8];
+
+  private CompiledCronExpression(String expression, long[] fields) {
+    this.expression = expression;
+    seconds = fields[CronFieldType.SECOND.index()];
+    minutes = fields[CronFieldType.MINUTE.index()];
+    hours = fields[CronFieldType.HOUR.index()];
+    daysOfMonth = (int) fields[CronFieldType.DAY_OF_MONTH.index()];
+    months = (int) fields[CronFieldType.MONTH.index()];
+    long dayOfWeekBits = fields[CronFieldType.DAY_OF_WEEK.index()];
+    for (int first = 1; first <= 7; first++) {
+      for (int day = 1; day <= 31; day++) {
+        if ((dayOfWeekBits & (1L << dayOfWeek(first, day))) != 0) {
+          daysOfWeek[first] |= 1 << day;
+        }
+      }
+    }
+  }
+
+  /**
+   * Compiles a cron expression.
+   *
+   * @param expression the cron expression, with six fields
+   * @return the compiled expression
+   * @throws IllegalArgumentException if the expression is not valid or uses syntax that cannot be compiled
+   */
+  public static CompiledCronExpression compile(String expression) {
+    Objects.requireNonNull(expression, "expression must not be null");
+    String[] values = expression.trim().split("\\s+");
+    CronFieldType[] types = CronFieldType.values();
+    if (values.length != types.length) {
+      throw new IllegalArgumentException(
+          "Cron expression must consist of " + types.length + " fields (found " + values.length + ")");
+    }
+    long[] fields = new long[types.length];
+    for (CronFieldType type : types) {
+      fields[type.index()] = type.parse(values[type.index()]);
+    }
+    return new CompiledCronExpression(expression, fields);
+  }
+
+  /**
+   * Returns the expression that was compiled.
+   *
+   * @return the cron expression
+   */
+  public String getExpression() {
+    return expression;
+  }
+
+  /**
+   * Returns the first occurrence strictly after the given date and time. Fractions of a second are ignored.
+   *
+   * @param date the date and time after which the occurrence is searched
+   * @return the next occurrence, or {@code null} if the expression does not fire again
+   */
+  public LocalDateTime next(LocalDateTime date) {
+    int limit = date.getYear() + MAXIMUM_YEARS;
+    int year = date.getYear();
+    int month = date.getMonthValue();
+    int day = date.getDayOfMonth();
+    int hour = date.getHour();
+    int minute = date.getMinute();
+    int second = date.getSecond() + 1;
+
+    while (year <= limit && year <= Year.MAX_VALUE) {
+      if (month > 12) {
+        year++;
+        month = 1;
+        continue;
+      }
+      int m = nextBit(months, month);
+      if (m < 0) {
+        year++;
+        month = 1;
+        day = 1;
+        hour = minute = second = 0;
+        continue;
+      }
+      if (m != month) {
+        month = m;
+        day = 1;
+        hour = minute = second = 0;
+      }
+
+      int d = nextBit(matchingDays(year, month), day);
+      if (d < 0) {
+        month++;
+        day = 1;
+        hour = minute = second = 0;
+        continue;
+      }
+      if (d != day) {
+        day = d;
+        hour = minute = second = 0;
+      }
+
+      int h = nextBit(hours, hour);
+      if (h < 0) {
+        day++;
+        hour = minute = second = 0;
+        continue;
+      }
+      if (h != hour) {
+        hour = h;
+        minute = second = 0;
+      }
+
+      int mi = nextBit(minutes, minute);
+      if (mi < 0) {
+        hour++;
+        minute = second = 0;
+        continue;
+      }
+      if (mi != minute) {
+        minute = mi;
+        second = 0;
+      }
+
+      int s = nextBit(seconds, second);
+      if (s < 0) {
+        minute++;
+        second = 0;
+        continue;
+      }
+      return LocalDateTime.of(year, month, day, hour, minute, s);
+    }
+    return null;
+  }
+
+  /**
+   * Returns the last occurrence strictly before the given date and time.
+   *
+   * @param date the date and time before which the occurrence is searched
+   * @return the previous occurrence, or {@code null} if the expression did not fire before
+   */
+  public LocalDateTime previous(LocalDateTime date) {
+    int limit = date.getYear() - MAXIMUM_YEARS;
+    int year = date.getYear();
+    int month = date.getMonthValue();
+    int day = date.getDayOfMonth();
+    int hour = date.getHour();
+    int minute = date.getMinute();
+    int second = date.getNano() > 0 ? date.getSecond() : date.getSecond() - 1;
+
+    while (year >= limit && year >= Year.MIN_VALUE) {
+      if (month < 1) {
+        year--;
+        month = 12;
+        continue;
+      }
+      int m = previousBit(months, month);
+      if (m < 0) {
+        year--;
+        month = 12;
+        day = 31;
+        hour = 23;
+        minute = second = 59;
+        continue;
+      }
+      if (m != month) {
+        month = m;
+        day = 31;
+        hour = 23;
+        minute = second = 59;
+      }
+
+      int d = previousBit(matchingDays(year, month), day);
+      if (d < 0) {
+        month--;
+        day = 31;
+        hour = 23;
+        minute = second = 59;
+        continue;
+      }
+      if (d != day) {
+        day = d;
+        hour = 23;
+        minute = second = 59;
+      }
+
+      int h = previousBit(hours, hour);
+      if (h < 0) {
+        day--;
+        hour = 23;
+        minute = second = 59;
+        continue;
+      }
+      if (h != hour) {
+        hour = h;
+        minute = second = 59;
+      }
+
+      int mi = previousBit(minutes, minute);
+      if (mi < 0) {
+        hour--;
+        minute = second = 59;
+        continue;
+      }
+      if (mi != minute) {
+        minute = mi;
+        second = 59;
+      }
+
+      int s = previousBit(seconds, second);
+      if (s < 0) {
+        minute--;
+        second = 59;
+        continue;
+      }
+      return LocalDateTime.of(year, month, day, hour, minute, s);
+    }
+    return null;
+  }
+
+  /**
+   * Returns the number of occurrences from {@code from}, inclusive, to {@code to}, exclusive.
+   *
+   * <p>
+   * The occurrences are counted in closed form from the bitmasks of the fields, without computing them: whole days
+   * count the times of the day, whole months count their days matched by both the day-of-month and the day-of-week
+   * fields, and whole 400-year cycles of the Gregorian calendar count the days matched in a cycle. Only the days at
+   * the edges of the range, and the months at the edges of each cycle, are inspected.
+   *
+   * @param from the start of the range, inclusive
+   * @param to the end of the range, exclusive
+   * @return the number of occurrences, or zero if {@code to} is not after {@code from}
+   */
+  public long count(LocalDateTime from, LocalDateTime to) {
+    LocalDateTime start = ceilingSecond(Objects.requireNonNull(from, "from must not be null"));
+    LocalDateTime end = ceilingSecond(Objects.requireNonNull(to, "to must not be null"));
+    if (!start.isBefore(end)) {
+      return 0;
+    }
+    LocalDate first = start.toLocalDate();
+    LocalDate last = end.toLocalDate();
+    int startSecond = start.toLocalTime().toSecondOfDay();
+    int endSecond = end.toLocalTime().toSecondOfDay();
+    if (first.equals(last)) {
+      return matchesDay(first) ? timesBefore(endSecond) - timesBefore(startSecond) : 0;
+    }
+    long count = 0;
+    if (matchesDay(first)) {
+      count += timesBefore(SECONDS_PER_DAY) - timesBefore(startSecond);
+    }
+    if (matchesDay(last)) {
+      count += timesBefore(endSecond);
+    }
+    return count + timesBefore(SECONDS_PER_DAY) * countDays(first.plusDays(1), last);
+  }
+
+  /** Returns the given date and time if it is a whole second, or the next whole second otherwise. */
+  private static LocalDateTime ceilingSecond(LocalDateTime date) {
+    return date.getNano() == 0 ? date : date.withNano(0).plusSeconds(1);
+  }
+
+  private boolean matchesDay(LocalDate date) {
+    return matchesDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+  }
+
+  /** Returns the number of times of the day strictly before the given second of the day, between 0 and 86400. */
+  private long timesBefore(int secondOfDay) {
+    if (secondOfDay >= SECONDS_PER_DAY) {
+      return (long) Long.bitCount(hours) * Long.bitCount(minutes) * Long.bitCount(seconds);
+    }
+    int hour = secondOfDay / 3600;
+    int minute = secondOfDay / 60 % 60;
+    int second = secondOfDay % 60;
+    long perHour = (long) Long.bitCount(minutes) * Long.bitCount(seconds);
+    long count = Long.bitCount(hours & ((1L << hour) - 1)) * perHour;
+    if ((hours & (1L << hour)) != 0) {
+      count += Long.bitCount(minutes & ((1L << minute) - 1)) * (long) Long.bitCount(seconds);
+      if ((minutes & (1L << minute)) != 0) {
+        count += Long.bitCount(seconds & ((1L << second) - 1));
+      }
+    }
+    return count;
+  }
+
+  /** Returns the number of matching days from {@code from}, inclusive, to {@code to}, exclusive. */
+  private long countDays(LocalDate from, LocalDate to) {
+    if (!from.isBefore(to)) {
+      return 0;
+    }
+    int year = from.getYear();
+    int month = from.getMonthValue();
+    if (year == to.getYear() && month == to.getMonthValue()) {
+      return countDays(year, month, from.getDayOfMonth(), to.getDayOfMonth() - 1);
+    }
+    long count = countDays(year, month, from.getDayOfMonth(), 31);
+    long cycle = -1;
+    while (true) {
+      if (++month > 12) {
+        year++;
+        month = 1;
+      }
+      if (year == to.getYear() && month == to.getMonthValue()) {
+        return count + countDays(year, month, 1, to.getDayOfMonth() - 1);
+      }
+      if (month == 1 && to.getYear() - year > CYCLE_YEARS) {
+        if (cycle < 0) {
+          cycle = countCycleDays(year);
+        }
+        long cycles = (to.getYear() - year - 1) / CYCLE_YEARS;
+        count += cycles * cycle;
+        year += (int) (cycles * CYCLE_YEARS);
+      }
+      count += countDays(year, month, 1, 31);
+    }
+  }
+
+  /** Returns the number of matching days between two days of a month, inclusive. */
+  private long countDays(int year, int month, int fromDay, int toDay) {
+    if ((months & (1 << month)) == 0 || fromDay > toDay) {
+      return 0;
+    }
+    long range = (-1L << fromDay) & (toDay >= 63 ? -1L : (1L << (toDay + 1)) - 1);
+    return Long.bitCount(matchingDays(year, month) & range);
+  }
+
+  /**
+   * Returns the number of matching days in the 400 years starting with the given one, which is the same for all the
+   * cycles since the days of the week repeat every 400 years.
+   */
+  private long countCycleDays(int year) {
+    long count = 0;
+    for (int y = year; y < year + CYCLE_YEARS; y++) {
+      for (int month = 1; month <= 12; month++) {
+        count += countDays(y, month, 1, 31);
+      }
+    }
+    return count;
+  }
+
+  /** Returns whether the expression fires on the given day. */
+  boolean matchesDay(int year, int month, int day) {
+    return (months & (1 << month)) != 0 && (matchingDays(year, month) & (1L << day)) != 0;
+  }
+
+  /** Returns the days of the given month matched by both the day-of-month and the day-of-week fields. */
+  long matchingDays(int year, int month) {
+    long daysInMonth = (1L << (lengthOfMonth(year, month) + 1)) - 2;
+    return daysOfMonth & daysOfWeek[dayOfWeek(year, month, 1)] & daysInMonth;
+  }
+
+  long getSeconds() {
+    return seconds;
+  }
+
+  long getMinutes() {
+    return minutes;
+  }
+
+  long getHours() {
+    return hours;
+  }
+
+  int getDaysOfMonth() {
+    return daysOfMonth;
+  }
+
+  int getMonths() {
+    return months;
+  }
+
+  /** Returns the days of the week matched by the day-of-week field, with bit 1 for Monday and bit 7 for Sunday. */
+  int getDaysOfWeek() {
+    // days 1 to 7 of a month starting on Monday are Monday to Sunday
+    return daysOfWeek[1] & 0xFE;
+  }
+
+  /** Returns the lowest bit set in {@code mask} at position {@code from} or higher, or {@code -1}. */
+  private static int nextBit(long mask, int from) {
+    if (from > 63) {
+      return -1;
+    }
+    long bits = mask & (-1L << from);
+    return bits == 0 ? -1 : Long.numberOfTrailingZeros(bits);
+  }
+
+  /** Returns the highest bit set in {@code mask} at position {@code from} or lower, or {@code -1}. */
+  private static int previousBit(long mask, int from) {
+    if (from < 0) {
+      return -1;
+    }
+    long bits = from >= 63 ? mask : mask & ((1L << (from + 1)) - 1);
+    return bits == 0 ? -1 : 63 - Long.numberOfLeadingZeros(bits);
+  }
+
+  static int lengthOfMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        return Year.isLeap(year) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  /** Returns the ISO day of the week (1 for Monday, 7 for Sunday) of the given date. */
+  static int dayOfWeek(int year, int month, int day) {
+    if (month < 3) {
+      year--;
+    }
+    int dow = (int) Math.floorMod((long) year + Math.floorDiv(year, 4) - Math.floorDiv(year, 100)
+        + Math.floorDiv(year, 400) + MONTH_OFFSETS[month - 1] + day, 7L);
+    return dow == 0 ? 7 : dow;
+  }
+
+  /** Returns the ISO day of the week of a day of the month, given the day of the week of the first day. */
+  private static int dayOfWeek(int first, int day) {
+    return (first - 1 + day - 1) % 7 + 1;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof CompiledCronExpression other && expression.equals(other.expression);
+  }
+
+  @Override
+  public int hashCode() {
+    return expression.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return expression;
+  }
+
+}
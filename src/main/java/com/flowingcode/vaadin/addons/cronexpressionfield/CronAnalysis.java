@@ -0,0 +1,170 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * Result of the static analysis of a cron expression: whether it ever fires and, if it does, the shortest and the
+ * longest intervals between two consecutive occurrences.
+ *
+ * <p>
+ * The analysis is computed from the bitmasks of a {@link CompiledCronExpression}, without computing any occurrence.
+ * Since the Gregorian calendar repeats every 400 years, the intervals are exact.
+ */
+@SuppressWarnings("serial")
+public final class CronAnalysis implements Serializable {
+
+  /** The analysis of an expression that never fires. */
+  static final CronAnalysis NEVER_FIRES = new CronAnalysis(null, null);
+
+  private static final int DAYS_PER_CYCLE = 146097;
+
+  private static final int CYCLE_START_YEAR = 2000;
+
+  private static final int SECONDS_PER_DAY = 86400;
+
+  private final Duration minimumInterval;
+
+  private final Duration maximumInterval;
+
+  private CronAnalysis(Duration minimumInterval, Duration maximumInterval) {
+    this.minimumInterval = minimumInterval;
+    this.maximumInterval = maximumInterval;
+  }
+
+  /**
+   * Returns whether the expression never fires, because none of the days it matches exists in any of the months it
+   * matches.
+   *
+   * @return {@code true} if the expression never fires, {@code false} otherwise
+   */
+  public boolean neverFires() {
+    return minimumInterval == null;
+  }
+
+  /**
+   * Returns the shortest interval between two consecutive occurrences.
+   *
+   * @return the minimum interval, or {@code null} if the expression never fires
+   */
+  public Duration getMinimumInterval() {
+    return minimumInterval;
+  }
+
+  /**
+   * Returns the longest interval between two consecutive occurrences.
+   *
+   * @return the maximum interval, or {@code null} if the expression never fires
+   */
+  public Duration getMaximumInterval() {
+    return maximumInterval;
+  }
+
+  /**
+   * Returns whether a compiled expression never fires. Since every day of the year falls on every day of the week
+   * within the 400 years of the Gregorian cycle, it is enough to check the day-of-month and month fields.
+   */
+  static boolean neverFires(CompiledCronExpression compiled) {
+    for (int month = 1; month <= 12; month++) {
+      if ((compiled.getMonths() & (1 << month)) != 0) {
+        // 2000 is a leap year, so February has 29 days
+        long days = (1L << (CompiledCronExpression.lengthOfMonth(CYCLE_START_YEAR, month) + 1)) - 2;
+        if ((compiled.getDaysOfMonth() & days) != 0) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /** Analyzes a compiled expression. */
+  static CronAnalysis analyze(CompiledCronExpression compiled) {
+    if (neverFires(compiled)) {
+      return NEVER_FIRES;
+    }
+
+    // intervals between the occurrences within a day
+    long hours = compiled.getHours();
+    long minutes = compiled.getMinutes();
+    long seconds = compiled.getSeconds();
+    int first = -1;
+    int last = -1;
+    long minimum = Long.MAX_VALUE;
+    long maximum = 0;
+    for (int h = Long.numberOfTrailingZeros(hours); h < 24; h = nextBit(hours, h)) {
+      for (int m = Long.numberOfTrailingZeros(minutes); m < 60; m = nextBit(minutes, m)) {
+        for (int s = Long.numberOfTrailingZeros(seconds); s < 60; s = nextBit(seconds, s)) {
+          int time = h * 3600 + m * 60 + s;
+          if (first < 0) {
+            first = time;
+          } else {
+            minimum = Math.min(minimum, time - last);
+            maximum = Math.max(maximum, time - last);
+          }
+          last = time;
+        }
+      }
+    }
+
+    // intervals between the days that match, over a whole cycle of the calendar
+    int firstDay = -1;
+    int lastDay = -1;
+    int minimumDays = Integer.MAX_VALUE;
+    int maximumDays = 0;
+    int offset = 0;
+    for (int year = CYCLE_START_YEAR; year < CYCLE_START_YEAR + 400; year++) {
+      for (int month = 1; month <= 12; month++) {
+        long days = (compiled.getMonths() & (1 << month)) != 0 ? compiled.matchingDays(year, month) : 0;
+        for (; days != 0; days &= days - 1) {
+          int day = offset + Long.numberOfTrailingZeros(days) - 1;
+          if (firstDay < 0) {
+            firstDay = day;
+          } else {
+            minimumDays = Math.min(minimumDays, day - lastDay);
+            maximumDays = Math.max(maximumDays, day - lastDay);
+          }
+          lastDay = day;
+        }
+        offset += CompiledCronExpression.lengthOfMonth(year, month);
+      }
+    }
+    int wrap = firstDay + DAYS_PER_CYCLE - lastDay;
+    minimumDays = Math.min(minimumDays, wrap);
+    maximumDays = Math.max(maximumDays, wrap);
+
+    long span = last - first;
+    minimum = Math.min(minimum, (long) minimumDays * SECONDS_PER_DAY - span);
+    maximum = Math.max(maximum, (long) maximumDays * SECONDS_PER_DAY - span);
+    return new CronAnalysis(Duration.ofSeconds(minimum), Duration.ofSeconds(maximum));
+  }
+
+  /** Returns the lowest bit set in {@code mask} above {@code bit}, or 64 if there is none. */
+  private static int nextBit(long mask, int bit) {
+    return bit >= 63 ? 64 : Long.numberOfTrailingZeros(mask & (-1L << (bit + 1)));
+  }
+
+  @Override
+  public String toString() {
+    return neverFires() ? "never fires" : "every " + minimumInterval + " to " + maximumInterval;
+  }
+
+}
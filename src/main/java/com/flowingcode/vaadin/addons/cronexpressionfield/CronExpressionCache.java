@@ -0,0 +1,422 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.scheduling.support.CronExpression;
+import it.burning.cron.CronExpressionDescriptor;
+import it.burning.cron.CronExpressionParser.CronExpressionParseException;
+import it.burning.cron.CronExpressionParser.Options;
+
+/**
+ * Application-scoped cache of parsed cron expressions, shared by all the {@link CronExpressionField} instances.
+ *
+ * <p>
+ * Each distinct expression is parsed once: the cached entry holds the validity result, the parsed
+ * {@link CronExpression} and the human-readable descriptions computed so far for each locale. The cache is bounded and
+ * evicts the least recently used entries when the maximum size is reached.
+ */
+public final class CronExpressionCache {
+
+  /** Maximum number of expressions retained by the shared instance. */
+  public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+  private static final CronExpressionCache INSTANCE = new CronExpressionCache(DEFAULT_MAXIMUM_SIZE);
+
+  private final int maximumSize;
+
+  private final Map<String, Entry> entries;
+
+  private final LongAdder hitCount = new LongAdder();
+
+  private final LongAdder missCount = new LongAdder();
+
+  private final LongAdder evictionCount = new LongAdder();
+
+  /**
+   * Creates a new cache retaining at most {@code maximumSize} expressions.
+   *
+   * @param maximumSize the maximum number of expressions to retain
+   * @throws IllegalArgumentException if {@code maximumSize} is not positive
+   */
+  public CronExpressionCache(int maximumSize) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("maximumSize must be positive");
+    }
+    this.maximumSize = maximumSize;
+    entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        if (size() > CronExpressionCache.this.maximumSize) {
+          evictionCount.increment();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Returns the cache shared by all the {@link CronExpressionField} instances.
+   *
+   * @return the shared cache
+   */
+  public static CronExpressionCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the cached entry for the given expression, parsing it if it was not already cached.
+   *
+   * @param expression the cron expression
+   * @return the cache entry for {@code expression}
+   */
+  public Entry get(String expression) {
+    Objects.requireNonNull(expression, "expression must not be null");
+    Entry entry;
+    synchronized (entries) {
+      entry = entries.get(expression);
+      if (entry == null) {
+        entry = new Entry(expression);
+        entries.put(expression, entry);
+        missCount.increment();
+      } else {
+        hitCount.increment();
+      }
+    }
+    entry.ensureParsed();
+    return entry;
+  }
+
+  /**
+   * Returns the cached entry for the given expression, without parsing it if it was not already cached.
+   *
+   * @param expression the cron expression
+   * @return the cache entry for {@code expression}, or {@code null} if it is not cached
+   */
+  public Entry getIfPresent(String expression) {
+    Entry entry = peek(expression);
+    if (entry != null) {
+      hitCount.increment();
+    }
+    return entry;
+  }
+
+  /** Returns the cached entry for the given expression, like {@link #getIfPresent(String)}, without counting a hit. */
+  Entry peek(String expression) {
+    Entry entry;
+    synchronized (entries) {
+      entry = entries.get(expression);
+    }
+    if (entry != null) {
+      entry.ensureParsed();
+    }
+    return entry;
+  }
+
+  /**
+   * Returns the entry of the given expression in the shared cache, or parses it into an entry that is not retained, so
+   * that bulk operations do not evict the expressions being edited. The hit count of the cache is not modified, so that
+   * it only reflects the lookups of the fields.
+   */
+  static Entry lookup(String expression) {
+    Entry entry = INSTANCE.peek(expression);
+    return entry != null ? entry : parse(expression);
+  }
+
+  /** Parses an expression into an entry that is not retained by any cache. */
+  static Entry parse(String expression) {
+    Entry entry = new Entry(Objects.requireNonNull(expression, "expression must not be null"));
+    entry.ensureParsed();
+    return entry;
+  }
+
+  /** Removes all the entries from the cache. The counters are not reset. */
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  /**
+   * Returns the number of expressions currently cached.
+   *
+   * @return the number of cached expressions
+   */
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  /**
+   * Returns the maximum number of expressions retained by this cache.
+   *
+   * @return the maximum size
+   */
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  /**
+   * Returns the number of lookups that found the expression already cached.
+   *
+   * @return the hit count
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Returns the number of lookups that required parsing the expression.
+   *
+   * @return the miss count
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Returns the number of entries that were evicted because the cache was full.
+   *
+   * @return the eviction count
+   */
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+
+  /** A parsed cron expression, as retained by {@link CronExpressionCache}. */
+  public static final class Entry {
+
+    private final String expression;
+
+    private final Map<Locale, String> descriptions = new ConcurrentHashMap<>();
+
+    private volatile boolean parsed;
+
+    private boolean valid;
+
+    private CronExpression cronExpression;
+
+    private CompiledCronExpression compiledExpression;
+
+    private volatile CronAnalysis analysis;
+
+    private String errorMessage;
+
+    private int errorPosition = -1;
+
+    private Entry(String expression) {
+      this.expression = expression;
+    }
+
+    private void ensureParsed() {
+      if (!parsed) {
+        synchronized (this) {
+          if (!parsed) {
+            parse();
+            parsed = true;
+          }
+        }
+      }
+    }
+
+    private void parse() {
+      if (expression.isEmpty()) {
+        errorMessage = "Empty cron expression";
+        errorPosition = 0;
+        return;
+      }
+      try {
+        CronExpressionDescriptor.getDescription(expression);
+        cronExpression = CronExpression.parse(expression);
+        valid = true;
+      } catch (CronExpressionParseException | IllegalArgumentException e) {
+        valid = false;
+        errorMessage = e.getMessage();
+        errorPosition = locateError();
+        return;
+      }
+      try {
+        compiledExpression = CompiledCronExpression.compile(expression);
+      } catch (IllegalArgumentException e) {
+        // syntax that cannot be compiled, the occurrences are computed by the parsed expression
+        return;
+      }
+      if (CronAnalysis.neverFires(compiledExpression)) {
+        valid = false;
+        cronExpression = null;
+        compiledExpression = null;
+        analysis = CronAnalysis.NEVER_FIRES;
+        errorMessage = "Cron expression never fires";
+        errorPosition = locateField(CronFieldType.DAY_OF_MONTH.index());
+      }
+    }
+
+    /** Returns the position of the given field. */
+    private int locateField(int field) {
+      int start = 0;
+      for (int i = 0; start < expression.length(); i++) {
+        while (start < expression.length() && Character.isWhitespace(expression.charAt(start))) {
+          start++;
+        }
+        if (i == field) {
+          break;
+        }
+        while (start < expression.length() && !Character.isWhitespace(expression.charAt(start))) {
+          start++;
+        }
+      }
+      return start;
+    }
+
+    /** Returns the position of the first field that cannot be parsed, or of the missing or extra field. */
+    private int locateError() {
+      CronFieldType[] types = CronFieldType.values();
+      int field = 0;
+      int start = 0;
+      while (start < expression.length()) {
+        if (Character.isWhitespace(expression.charAt(start))) {
+          start++;
+          continue;
+        }
+        int end = start;
+        while (end < expression.length() && !Character.isWhitespace(expression.charAt(end))) {
+          end++;
+        }
+        if (field == types.length || !types[field].isValid(expression.substring(start, end))) {
+          return start;
+        }
+        field++;
+        start = end;
+      }
+      return field < types.length ? expression.length() : 0;
+    }
+
+    /**
+     * Returns the cron expression of this entry.
+     *
+     * @return the cron expression
+     */
+    public String getExpression() {
+      return expression;
+    }
+
+    /**
+     * Returns whether the expression is valid.
+     *
+     * @return {@code true} if the expression is valid, {@code false} otherwise
+     */
+    public boolean isValid() {
+      return valid;
+    }
+
+    /**
+     * Returns the message of the error found while parsing the expression.
+     *
+     * @return the error message, or {@code null} if the expression is valid
+     */
+    public String getErrorMessage() {
+      return errorMessage;
+    }
+
+    /**
+     * Returns the position in the expression of the field where the parsing error was found. If the expression has
+     * fewer fields than expected, the position is the length of the expression.
+     *
+     * @return the zero-based position of the error, or {@code -1} if the expression is valid
+     */
+    public int getErrorPosition() {
+      return errorPosition;
+    }
+
+    /**
+     * Returns the parsed expression.
+     *
+     * @return the parsed {@link CronExpression}, or {@code null} if the expression is not valid
+     */
+    public CronExpression getCronExpression() {
+      return cronExpression;
+    }
+
+    /**
+     * Returns the compiled expression.
+     *
+     * @return the {@link CompiledCronExpression}, or {@code null} if the expression is not valid or uses syntax that
+     *         cannot be compiled
+     */
+    public CompiledCronExpression getCompiledExpression() {
+      return compiledExpression;
+    }
+
+    /**
+     * Returns the static analysis of the expression, which is computed the first time it is requested. Expressions that
+     * never fire are not valid, but their analysis is available.
+     *
+     * @return the {@link CronAnalysis}, or {@code null} if the expression cannot be parsed or uses syntax that cannot be
+     *         compiled
+     */
+    public CronAnalysis getAnalysis() {
+      CronAnalysis result = analysis;
+      if (result == null && compiledExpression != null) {
+        analysis = result = CronAnalysis.analyze(compiledExpression);
+      }
+      return result;
+    }
+
+    /**
+     * Returns the first occurrence strictly after the given date and time, using the compiled expression when
+     * available.
+     */
+    LocalDateTime next(LocalDateTime date) {
+      if (compiledExpression != null) {
+        return compiledExpression.next(date);
+      }
+      return cronExpression == null ? null : cronExpression.next(date);
+    }
+
+    /**
+     * Returns the human-readable description of the expression in the given locale. Descriptions are computed once per
+     * locale.
+     *
+     * @param locale the {@link Locale} of the description
+     * @return the description, or {@code null} if the expression is not valid
+     */
+    public String getDescription(Locale locale) {
+      if (!valid) {
+        return null;
+      }
+      return descriptions.computeIfAbsent(locale, l -> CronExpressionDescriptor.getDescription(expression, new Options() {
+        {
+          setUseJavaEeScheduleExpression(true);
+          setLocale(l);
+        }
+      }));
+    }
+  }
+
+}
@@ -20,20 +20,30 @@
 
 package com.flowingcode.vaadin.addons.cronexpressionfield;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.OutputStreamWriter;
+import java.io.Serializable;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Stream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import com.flowingcode.vaadin.addons.dayofweekselector.DayOfWeekSelector;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
@@ -41,9 +51,11 @@ import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.combobox.ComboBox;
 import com.vaadin.flow.component.customfield.CustomField;
 import com.vaadin.flow.component.dependency.CssImport;
+import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.formlayout.FormLayout;
 import com.vaadin.flow.component.formlayout.FormLayout.ResponsiveStep;
 import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.Anchor;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.orderedlayout.FlexComponent.Alignment;
@@ -53,13 +65,12 @@ import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.IntegerField;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.component.timepicker.TimePicker;
+import com.vaadin.flow.data.provider.BackEndDataProvider;
+import com.vaadin.flow.data.value.HasValueChangeMode;
+import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.function.SerializableConsumer;
-import com.vaadin.flow.internal.JsonSerializer;
-import elemental.json.JsonObject;
-import org.springframework.scheduling.support.CronExpression;
-import it.burning.cron.CronExpressionDescriptor;
-import it.burning.cron.CronExpressionParser.CronExpressionParseException;
-import it.burning.cron.CronExpressionParser.Options;
+import com.vaadin.flow.server.StreamResource;
+import com.vaadin.flow.shared.Registration;
 
 /**
  * UI component for building cron expressions.
@@ -68,38 +79,92 @@ import it.burning.cron.CronExpressionParser.Options;
  */
 @SuppressWarnings("serial")
 @CssImport(value = "./styles/cron-expression-field-styles.css")
-public class CronExpressionField extends CustomField<String> {
+@JsModule("./src/fc-cron-expression-field.js")
+public class CronExpressionField extends CustomField<String> implements HasValueChangeMode {
 
   /**
    * Default value used only when {@code inputExpressionTf} and {@code defaultExpression} are empty. Represents every
    * day at midnight.
    */
   private static final String DEFAULT_CRON = "0 0 0 * * *";
+  private static final Duration DEFAULT_NEXT_DATES_TIMEOUT = Duration.ofSeconds(1);
+  private static final int DEFAULT_NEXT_DATES_MAXIMUM_ITERATIONS = 100_000;
+  private static final int DEFAULT_EXPORT_LIMIT = 1000;
+
+  private static volatile CronExpressionFieldMetrics metrics = CronExpressionFieldMetrics.NOOP;
   private Locale locale;
   private String defaultExpression;
   private List<String> commonExpressionsList;
   private final ComboBox<LayoutOptions> cronExpressionLayoutCb = new ComboBox<>();
   private final VerticalLayout mainLayout = new VerticalLayout();
   private final TextField inputExpressionTf = new TextField();
+  private final Button clearInputBtn = new Button();
+  private final Span descriptionLabel = new Span();
   private final Div cronDescriptionDiv = new Div();
-  private final Grid<LocalDateTime> grid = new Grid<>();
+  private final Div cronAnalysisDiv = new Div();
+  private Grid<LocalDateTime> grid;
   private final Button nextDatesBtn = new Button();
   private final ComboBox<String> commonExpressionsCb = new ComboBox<>();
+  private final Div loadPreviewLayout = new Div();
+  private final Span loadPreviewLabel = new Span();
+  private final LoadHistogramChart loadHistogramChart = new LoadHistogramChart();
 
   protected enum Units {
     SECONDS, MINUTES, HOURS;
   }
 
-  private CronExpressionFieldI18n i18n;
+  private transient CronExpressionFieldI18n i18n;
+  /** The i18n set with {@link #setI18n(CronExpressionFieldI18n)}, so that the shared default i18n is not serialized. */
+  private CronExpressionFieldI18n customI18n;
   private boolean helpEnabled;
   private boolean commonExpressionsVisible;
+  private boolean commonExpressionsLazyLoading;
+  private BackEndDataProvider<String, String> commonExpressionsDataProvider;
   private boolean cronInputEnabled;
+  private boolean clientSideValidationEnabled;
+  private CronExpressionModel cronModel;
+  private DailyLayout dailyLayout;
+  private MonthlyLayout monthlyLayout;
+  private boolean resettingLayout;
+  private final List<Registration> registrations = new ArrayList<>();
+  private transient Map<String, String> commonExpressionLabels;
+  private transient String commonExpressionsFilter;
+  private transient List<String> filteredCommonExpressions;
+  private FormatStyle dateStyle = FormatStyle.LONG;
+  private FormatStyle timeStyle = FormatStyle.MEDIUM;
+  private transient DateTimeFormatter dateFormatter;
+  private transient NextDatesLoader nextDatesLoader;
+  private Duration nextDatesTimeout = DEFAULT_NEXT_DATES_TIMEOUT;
+  private int nextDatesMaximumIterations = DEFAULT_NEXT_DATES_MAXIMUM_ITERATIONS;
+  private transient Future<?> loadPreviewTask;
+  private LocalDateTime nextDatesAnchor;
+  private ChronoUnit loadPreviewUnit = ChronoUnit.HOURS;
+  private int loadPreviewBuckets = 7 * 24;
+  private String loadPreviewExpression;
+  private Span exportLayout;
+  private Button exportCsvBtn;
+  private Button exportICalendarBtn;
+  private int exportLimit = DEFAULT_EXPORT_LIMIT;
 
   /** Creates a new instance of {@code CronExpressionField} */
   public CronExpressionField() {
     this.setClassName("fc-cron-expression-field");
     setI18n(null);
     configureLayout();
+    register(addAttachListener(e -> {
+      // the default i18n depends on the I18NProvider of the application, which is unknown while deserializing
+      applyDefaultI18n();
+      if (clientSideValidationEnabled) {
+        configureClientSideValidation();
+      }
+      refreshLoadPreview();
+    }));
+    register(addDetachListener(e -> {
+      cancelLoadPreview();
+      if (nextDatesLoader != null) {
+        nextDatesLoader.cancel();
+      }
+    }));
   }
 
   /**
@@ -112,78 +177,193 @@ public class CronExpressionField extends CustomField<String> {
     setDefaultExpression(defaultExpression);
   }
 
-  private void updateCronExpression(Map<Integer, String> cronValues) {
-    String[] cronExpressionSplit =
-        inputExpressionTf.getValue().isEmpty() ? DEFAULT_CRON.split(" ") : inputExpressionTf.getValue().split(" ");
-    for (Integer i : cronValues.keySet()) {
-      cronExpressionSplit[i] = cronValues.get(i);
+  /**
+   * Returns the model of the expression being edited, synchronized with the value of {@code inputExpressionTf}.
+   */
+  private CronExpressionModel getCronModel() {
+    String value = inputExpressionTf.getValue();
+    if (value.isEmpty()) {
+      value = DEFAULT_CRON;
+    }
+    if (cronModel == null) {
+      cronModel = new CronExpressionModel(DEFAULT_CRON);
+    }
+    if (!value.equals(cronModel.getExpression()) && !cronModel.setExpression(value)) {
+      cronModel.setExpression(DEFAULT_CRON);
+    }
+    return cronModel;
+  }
+
+  /** Applies the fields patched in the model to {@code inputExpressionTf}. */
+  private void updateCronExpression(boolean patched) {
+    if (patched) {
+      inputExpressionTf.setValue(cronModel.getExpression());
+    } else {
+      inputExpressionTf.setInvalid(true);
     }
-    inputExpressionTf.setValue(String.join(" ", cronExpressionSplit));
   }
 
   private void updateCronExpression(String cron) {
-    if (validateCron(cron)) {
+    CronExpressionCache.Entry parsed = validate(cron);
+    updateExport(parsed != null && parsed.isValid());
+    if (parsed != null && parsed.isValid()) {
       inputExpressionTf.setValue(cron);
-      updateDescription();
+      updateDescription(parsed);
+      updateAnalysis(parsed.getAnalysis());
+      updateLoadPreview(cron);
     } else {
-      cronDescriptionDiv.setText(i18n.getDescriptionPlaceholder());
+      CronAnalysis analysis = parsed != null ? parsed.getAnalysis() : null;
+      setDescription(analysis != null && analysis.neverFires() ? i18n.getNeverFiresMessage()
+          : i18n.getDescriptionPlaceholder());
+      updateAnalysis(null);
+      updateLoadPreview(null);
       inputExpressionTf.setInvalid(true);
     }
   }
 
-  private void updateDescription() {
-    if (validateCron(inputExpressionTf.getValue())) {
-      cronDescriptionDiv.setText(CronExpressionDescriptor.getDescription(inputExpressionTf.getValue(), new Options() {
-        {
-          setUseJavaEeScheduleExpression(true);
-          setLocale(locale == null ? Locale.ENGLISH : locale);
+  /**
+   * Computes the load histogram of the given expression off the UI thread, if the load preview is visible. Without push,
+   * the histogram of a compiled expression is computed while handling the request instead.
+   */
+  private void updateLoadPreview(String cron) {
+    if (!loadPreviewLayout.isVisible() || Objects.equals(cron, loadPreviewExpression)) {
+      return;
+    }
+    loadPreviewExpression = cron;
+    cancelLoadPreview();
+    UI ui = getUI().orElse(null);
+    if (cron == null || ui == null) {
+      loadHistogramChart.setHistogram(null);
+      return;
+    }
+    LocalDateTime from = LocalDateTime.now();
+    ChronoUnit unit = loadPreviewUnit;
+    int buckets = loadPreviewBuckets;
+    if (!ui.getPushConfiguration().getPushMode().isEnabled()
+        && CronExpressionCache.lookup(cron).getCompiledExpression() != null) {
+      // without push, a histogram computed in the background is not displayed until the next round trip, and the
+      // histogram of a compiled expression is computed in closed form
+      loadHistogramChart.setHistogram(LoadHistogram.compute(cron, from, unit, buckets));
+      return;
+    }
+    loadHistogramChart.setPending(true);
+    loadPreviewTask = BackgroundExecutor.get().submit(() -> {
+      LoadHistogram histogram = LoadHistogram.compute(cron, from, unit, buckets);
+      ui.accessLater(() -> {
+        if (cron.equals(loadPreviewExpression)) {
+          loadHistogramChart.setHistogram(histogram);
         }
-      }));
+      }, null).run();
+    });
+  }
+
+  private void cancelLoadPreview() {
+    if (loadPreviewTask != null) {
+      loadPreviewTask.cancel(true);
+      loadPreviewTask = null;
     }
   }
 
-  private boolean validateCron(String cron) {
-    if (cron != null && !cron.isEmpty()) {
-      try {
-        CronExpressionDescriptor.getDescription(cron);
-        return CronExpression.isValidExpression(cron);
-      } catch (CronExpressionParseException | IllegalArgumentException e) {
-        return false;
+  private void updateDescription(CronExpressionCache.Entry parsed) {
+    CronExpressionFieldMetrics metrics = CronExpressionField.metrics;
+    long start = metrics.start();
+    setDescription(parsed.getDescription(locale == null ? Locale.ENGLISH : locale));
+    metrics.stop(CronExpressionFieldMetrics.Operation.DESCRIPTION, getLayout(), start);
+  }
+
+  /** Displays the intervals between consecutive occurrences below the description. */
+  private void updateAnalysis(CronAnalysis analysis) {
+    if (analysis == null || analysis.neverFires()) {
+      cronAnalysisDiv.setVisible(false);
+      return;
+    }
+    String interval = formatInterval(analysis.getMinimumInterval());
+    if (!analysis.getMaximumInterval().equals(analysis.getMinimumInterval())) {
+      interval += " \u2013 " + formatInterval(analysis.getMaximumInterval());
+    }
+    cronAnalysisDiv.setText(i18n.getIntervalLabel() + ": " + interval);
+    cronAnalysisDiv.setVisible(true);
+  }
+
+  private static String formatInterval(Duration interval) {
+    StringBuilder text = new StringBuilder();
+    long[] values = {interval.toDaysPart(), interval.toHoursPart(), interval.toMinutesPart(), interval.toSecondsPart()};
+    String[] units = {"d", "h", "m", "s"};
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != 0) {
+        text.append(text.length() == 0 ? "" : " ").append(values[i]).append(units[i]);
       }
+    }
+    return text.length() == 0 ? "0s" : text.toString();
+  }
+
+  private void setDescription(String description) {
+    if (!Objects.equals(description, cronDescriptionDiv.getText())) {
+      cronDescriptionDiv.setText(description);
+    }
+  }
+
+  private CronExpressionCache.Entry parseCron(String cron) {
+    if (cron != null && !cron.isEmpty()) {
+      CronExpressionCache cache = CronExpressionCache.getInstance();
+      CronExpressionCache.Entry entry = cache.getIfPresent(cron);
+      metrics.cacheLookup(getLayout(), entry != null);
+      return entry != null ? entry : cache.get(cron);
     } else {
-      return false;
+      return null;
+    }
+  }
+
+  /** Parses the expression, recording the validation in the {@link CronExpressionFieldMetrics}. */
+  private CronExpressionCache.Entry validate(String cron) {
+    CronExpressionFieldMetrics metrics = CronExpressionField.metrics;
+    long start = metrics.start();
+    CronExpressionCache.Entry parsed = parseCron(cron);
+    if (parsed != null && !parsed.isValid()) {
+      metrics.parseFailure(getLayout());
     }
+    metrics.stop(CronExpressionFieldMetrics.Operation.VALIDATION, getLayout(), start);
+    return parsed;
+  }
+
+  private boolean validateCron(String cron) {
+    CronExpressionCache.Entry parsed = validate(cron);
+    return parsed != null && parsed.isValid();
+  }
+
+  /** Returns the displayed layout, which tags the measurements of the {@link CronExpressionFieldMetrics}. */
+  private LayoutOptions getLayout() {
+    LayoutOptions layout = cronExpressionLayoutCb.getValue();
+    return layout != null ? layout : LayoutOptions.ADVANCED;
   }
 
   private void configureLayout() {
-    inputExpressionTf.setLabel(i18n.getCronExpressionLabel());
     inputExpressionTf.setValue(defaultExpression == null ? "" : defaultExpression);
-    Button clearInputBtn = new Button(i18n.getClearBtn(), e -> {
+    register(clearInputBtn.addClickListener(e -> {
       inputExpressionTf.setValue(defaultExpression == null ? "" : defaultExpression);
       resetUI();
       inputExpressionTf.setInvalid(false);
-    });
+    }));
     inputExpressionTf.setSuffixComponent(clearInputBtn);
-    inputExpressionTf.addValueChangeListener(v -> {
+    register(inputExpressionTf.addValueChangeListener(v -> {
+      if (nextDatesLoader != null) {
+        resetNextDates();
+      }
       updateCronExpression(v.getValue());
       setModelValue(v.getValue(), true);
-    });
+    }));
+
+    commonExpressionsCb.setItemLabelGenerator(this::getCommonExpressionLabel);
+    register(commonExpressionsCb.addValueChangeListener(v -> updateCronExpression(commonExpressionsCb.getValue())));
+    commonExpressionsCb.setWidthFull();
+    commonExpressionsCb.addClassName("fc-common-expressions-combobox");
+    commonExpressionsCb.setAllowCustomValue(false);
+    commonExpressionsCb.setVisible(false);
+    mainLayout.add(commonExpressionsCb);
+
     cronExpressionLayoutCb.setAllowCustomValue(false);
     cronExpressionLayoutCb.setItems(LayoutOptions.values());
-    cronExpressionLayoutCb.setItemLabelGenerator(layout -> layoutOptionsTranslation(layout));
-    cronExpressionLayoutCb.addValueChangeListener(v -> {
-      switch (v.getValue()) {
-        case MONTHLY:
-          setMonthlyLayout();
-          break;
-        case ADVANCED:
-          setAdvancedLayout();
-          break;
-        default:
-          setDailyLayout();
-          break;
-      };
-    });
+    register(cronExpressionLayoutCb.addValueChangeListener(v -> resetUI()));
     cronExpressionLayoutCb.setValue(LayoutOptions.ADVANCED);
 
     HorizontalLayout topLayout = new HorizontalLayout(cronExpressionLayoutCb, inputExpressionTf);
@@ -202,261 +382,494 @@ public class CronExpressionField extends CustomField<String> {
     topLayout.setAlignItems(Alignment.END);
     topLayout.setJustifyContentMode(JustifyContentMode.BETWEEN);
 
-    if (helpEnabled) {
-      inputExpressionTf.setTooltipText(i18n.getInputExpressionTooltip());
-    }
+    register(nextDatesBtn.addClickListener(e -> showNextDates()));
+    nextDatesBtn.setVisible(false);
 
+    loadPreviewLayout.add(loadPreviewLabel, loadHistogramChart);
+    loadPreviewLayout.addClassName("fc-cron-load-preview");
+    loadPreviewLayout.setWidthFull();
+    loadPreviewLayout.setVisible(false);
+
+    cronAnalysisDiv.setWidthFull();
+    cronAnalysisDiv.setClassName("fc-cron-analysis");
+    cronAnalysisDiv.setVisible(false);
+
+    add(topLayout, mainLayout, descriptionLabel, cronDescriptionDiv, cronAnalysisDiv, loadPreviewLayout, nextDatesBtn);
+  }
+
+  /** Sets the texts of the internal components from the current i18n, including the layouts already built. */
+  private void updateTexts() {
+    inputExpressionTf.setLabel(i18n.getCronExpressionLabel());
+    clearInputBtn.setText(i18n.getClearBtn());
+    commonExpressionsCb.setLabel(i18n.getCommonExpressionsLabel());
+    cronExpressionLayoutCb.setItemLabelGenerator(this::layoutOptionsTranslation);
+    cronExpressionLayoutCb.getGenericDataView().refreshAll();
     nextDatesBtn.setText(i18n.getShowNextDatesBtn());
-    nextDatesBtn.addClickListener(e -> showNextDates());
-    nextDatesBtn.setVisible(false);
+    loadPreviewLabel.setText(i18n.getLoadPreviewLabel());
+    descriptionLabel.setText(i18n.getDescriptionLabel());
+    if (dailyLayout != null) {
+      dailyLayout.updateTexts();
+    }
+    if (monthlyLayout != null) {
+      monthlyLayout.updateTexts();
+    }
+    if (exportLayout != null) {
+      exportCsvBtn.setText(i18n.getExportCsvLabel());
+      exportICalendarBtn.setText(i18n.getExportICalendarLabel());
+    }
+    updateTooltips();
+    refreshDescription();
+  }
 
-    add(topLayout, mainLayout, new Span(i18n.getDescriptionLabel()), cronDescriptionDiv, nextDatesBtn);
-    resetUI();
+  /** Displays again the description of the current expression, if any, with the current locale and i18n. */
+  private void refreshDescription() {
+    if (!cronDescriptionDiv.getText().isEmpty()) {
+      updateCronExpression(inputExpressionTf.getValue());
+    }
+  }
+
+  /**
+   * Keeps track of a listener registered by this component on itself or on one of its internal components. Internal
+   * listeners are registered once, when the component they listen to is built.
+   */
+  private void register(Registration registration) {
+    registrations.add(registration);
+  }
+
+  /**
+   * Returns the number of listeners this component has registered on itself and on its internal components.
+   *
+   * <p>
+   * This is a diagnostic method: the count increases only when a layout is displayed for the first time, and remains
+   * constant when switching layouts or changing the configuration of the field.
+   *
+   * @return the number of internal listeners
+   */
+  public int getRegisteredListenerCount() {
+    return registrations.size();
   }
 
   private String layoutOptionsTranslation(LayoutOptions option) {
     return i18n.getLayoutOptions().get(option);
   }
 
+  /**
+   * Displays the layout selected in {@code cronExpressionLayoutCb}, building it the first time, and resets the
+   * expression to the default one.
+   */
   private void resetUI() {
-    switch (cronExpressionLayoutCb.getValue()) {
-      case MONTHLY:
-        setMonthlyLayout();
-        break;
-      case ADVANCED:
-        setAdvancedLayout();
-        break;
-      default:
-        setDailyLayout();
-        break;
-    };
-  }
-
-  private void setAdvancedLayout() {
-    mainLayout.removeAll();
+    CronExpressionFieldMetrics metrics = CronExpressionField.metrics;
+    long start = metrics.start();
+    LayoutOptions layout = cronExpressionLayoutCb.getValue();
     inputExpressionTf.setValue(defaultExpression == null ? "" : defaultExpression);
     inputExpressionTf.setInvalid(false);
     if (grid != null) {
       remove(grid);
     }
-    inputExpressionTf.setReadOnly(false);
-    if (commonExpressionsVisible) {
-      if (commonExpressionsList != null)
-        commonExpressionsCb.setItems(commonExpressionsList);
-
-      commonExpressionsCb.setItemLabelGenerator(i -> {
-        String label = CronExpressionDescriptor.getDescription(i, new Options() {
-          {
-            setUseJavaEeScheduleExpression(true);
-            setLocale(locale == null ? Locale.ENGLISH : locale);
-          }
-        });
-        return label + " (" + i + ")";
-      });
+    inputExpressionTf.setReadOnly(layout != LayoutOptions.ADVANCED && !cronInputEnabled);
 
-      commonExpressionsCb.addValueChangeListener(v -> updateCronExpression(commonExpressionsCb.getValue()));
-      commonExpressionsCb.setWidthFull();
-      commonExpressionsCb.addClassName("fc-common-expressions-combobox");
-      commonExpressionsCb.setLabel(i18n.getCommonExpressionsLabel());
-      commonExpressionsCb.setAllowCustomValue(false);
-      mainLayout.add(commonExpressionsCb);
+    resettingLayout = true;
+    try {
+      if (layout == LayoutOptions.MONTHLY) {
+        getMonthlyLayout().reset();
+      } else if (layout == LayoutOptions.DAILY) {
+        getDailyLayout().reset();
+      }
+    } finally {
+      resettingLayout = false;
     }
+
+    commonExpressionsCb.setVisible(layout == LayoutOptions.ADVANCED && commonExpressionsVisible);
+    if (dailyLayout != null) {
+      dailyLayout.setVisible(layout == LayoutOptions.DAILY);
+    }
+    if (monthlyLayout != null) {
+      monthlyLayout.setVisible(layout == LayoutOptions.MONTHLY);
+    }
+    metrics.stop(CronExpressionFieldMetrics.Operation.LAYOUT, getLayout(), start);
   }
 
-  private void setDailyLayout() {
-    mainLayout.removeAll();
-    inputExpressionTf.setValue(defaultExpression == null ? "" : defaultExpression);
-    inputExpressionTf.setInvalid(false);
+  private DailyLayout getDailyLayout() {
+    if (dailyLayout == null) {
+      dailyLayout = new DailyLayout();
+      mainLayout.add(dailyLayout);
+    }
+    return dailyLayout;
+  }
 
-    if (grid != null) {
-      remove(grid);
+  private MonthlyLayout getMonthlyLayout() {
+    if (monthlyLayout == null) {
+      monthlyLayout = new MonthlyLayout();
+      mainLayout.add(monthlyLayout);
+    }
+    return monthlyLayout;
+  }
+
+  private void updateTooltips() {
+    inputExpressionTf.setTooltipText(helpEnabled ? i18n.getInputExpressionTooltip() : null);
+    if (dailyLayout != null) {
+      dailyLayout.updateTooltips();
+    }
+    if (monthlyLayout != null) {
+      monthlyLayout.updateTooltips();
     }
-    inputExpressionTf.setReadOnly(!cronInputEnabled);
+  }
 
-    TimePicker startsAtTp = new TimePicker(i18n.getStartsAtLabel());
-    startsAtTp.setStep(Duration.ofMinutes(30));
-    startsAtTp.addValueChangeListener(v -> getStartsAtExpression(v.getValue()));
+  /** Components of the daily layout. They are built the first time the layout is displayed. */
+  private class DailyLayout extends VerticalLayout {
 
-    IntegerField timeAmountField = new IntegerField(i18n.getRepeatEveryLabel());
-    timeAmountField.setMin(0);
-    ComboBox<Units> timeUnitCb = new ComboBox<>();
-    timeUnitCb.setClassName("inline-combobox");
-    timeUnitCb.setWidth("50%");
-    timeUnitCb.setItems(Units.values());
-    timeUnitCb.setItemLabelGenerator(i -> {
-      return i18n.getUnits().get(i);
-    });
-    timeUnitCb.setValue(Units.SECONDS);
-    timeUnitCb.addValueChangeListener(v -> {
-      if (v.getValue().equals(Units.HOURS)) {
-        timeAmountField.setMax(23);
-      } else {
-        timeAmountField.setMax(59);
-      }
-      if (timeAmountField.getValue() != null && !timeAmountField.isEmpty())
-        getDailyExpression(v.getValue(), timeAmountField.getValue());
-    });
-    timeAmountField.addValueChangeListener(v -> {
-      if (!timeAmountField.isInvalid() && !timeAmountField.isEmpty()) {
-        getDailyExpression(timeUnitCb.getValue(), v.getValue());
+    private final TimePicker startsAtTp = new TimePicker();
+    private final IntegerField timeAmountField = new IntegerField();
+    private final ComboBox<Units> timeUnitCb = new ComboBox<>();
+    private final DayOfWeekSelector daySelector = new DayOfWeekSelector();
+
+    DailyLayout() {
+      startsAtTp.setStep(Duration.ofMinutes(30));
+      register(startsAtTp.addValueChangeListener(v -> getStartsAtExpression(v.getValue())));
+
+      timeAmountField.setMin(0);
+      timeAmountField.setMax(59);
+      timeUnitCb.setClassName("inline-combobox");
+      timeUnitCb.setWidth("50%");
+      timeUnitCb.setItems(Units.values());
+      timeUnitCb.setValue(Units.SECONDS);
+      register(timeUnitCb.addValueChangeListener(v -> {
+        if (v.getValue().equals(Units.HOURS)) {
+          timeAmountField.setMax(23);
+        } else {
+          timeAmountField.setMax(59);
+        }
+        if (timeAmountField.getValue() != null && !timeAmountField.isEmpty())
+          getDailyExpression(v.getValue(), timeAmountField.getValue());
+      }));
+      register(timeAmountField.addValueChangeListener(v -> {
+        if (!timeAmountField.isInvalid() && !timeAmountField.isEmpty()) {
+          getDailyExpression(timeUnitCb.getValue(), v.getValue());
+        }
+      }));
+      timeAmountField.addClassName("fc-daily-layout-time-amount");
+      timeAmountField.setSuffixComponent(timeUnitCb);
+
+      register(daySelector.addValueChangeListener(v -> {
+        getWeeklyExpression(daySelector.getValue());
+      }));
+
+      updateTexts();
+      if (helpEnabled) {
+        updateTooltips();
       }
-    });
-    timeAmountField.addClassName("fc-daily-layout-time-amount");
-    timeAmountField.setSuffixComponent(timeUnitCb);
+      FormLayout formLayout = new FormLayout(startsAtTp, timeAmountField);
+      formLayout.setResponsiveSteps(new ResponsiveStep("0", 1), new ResponsiveStep("300px", 2));
+      formLayout.setWidthFull();
+      setPadding(false);
+      setWidthFull();
+      add(formLayout, daySelector);
+    }
 
-    DayOfWeekSelector daySelector = new DayOfWeekSelector();
-    daySelector.addValueChangeListener(v -> {
-      getWeeklyExpression(daySelector.getValue());
-    });
+    void reset() {
+      startsAtTp.clear();
+      timeAmountField.clear();
+      timeUnitCb.setValue(Units.SECONDS);
+      daySelector.clear();
+    }
 
-    if (helpEnabled) {
-      timeAmountField.setTooltipText(i18n.getTimeAmountTooltip());
-      daySelector.setTooltipText(i18n.getDaySelectorTooltip());
-      startsAtTp.setTooltipText(i18n.getStartsAtTooltip());
+    void updateTexts() {
+      startsAtTp.setLabel(i18n.getStartsAtLabel());
+      timeAmountField.setLabel(i18n.getRepeatEveryLabel());
+      timeUnitCb.setItemLabelGenerator(i -> i18n.getUnits().get(i));
+      timeUnitCb.getGenericDataView().refreshAll();
     }
-    FormLayout formLayout = new FormLayout(startsAtTp, timeAmountField);
-    formLayout.setResponsiveSteps(new ResponsiveStep("0", 1), new ResponsiveStep("300px", 2));
-    formLayout.setWidthFull();
-    mainLayout.add(formLayout, daySelector);
-  }
 
-  private void setMonthlyLayout() {
-    mainLayout.removeAll();
-    inputExpressionTf.setValue(defaultExpression == null ? "" : defaultExpression);
-    inputExpressionTf.setInvalid(false);
-    if (grid != null) {
-      remove(grid);
+    void updateTooltips() {
+      timeAmountField.setTooltipText(helpEnabled ? i18n.getTimeAmountTooltip() : null);
+      daySelector.setTooltipText(helpEnabled ? i18n.getDaySelectorTooltip() : null);
+      startsAtTp.setTooltipText(helpEnabled ? i18n.getStartsAtTooltip() : null);
     }
-    inputExpressionTf.setReadOnly(!cronInputEnabled);
-
-    TimePicker startsAtTp = new TimePicker(i18n.getStartsAtLabel());
-    startsAtTp.setStep(Duration.ofMinutes(30));
-    startsAtTp.addValueChangeListener(v -> getStartsAtExpression(v.getValue()));
-    startsAtTp.setWidth("35%");
-    IntegerField dayOfMonthField = new IntegerField(i18n.getDayOfMonthLabel());
-    dayOfMonthField.setValue(1);
-    dayOfMonthField.setWidth("30%");
-    IntegerField monthField = new IntegerField(i18n.getRepeatEveryLabel());
-    monthField.setSuffixComponent(new Span(i18n.getMonth()));
-    monthField.setValue(1);
-    monthField.setStepButtonsVisible(true);
-    monthField.setMin(1);
-    monthField.setMax(11);
-    monthField.addValueChangeListener(v -> {
-      if (!monthField.isInvalid() && !dayOfMonthField.isInvalid()) {
-        getMonthlyExpression(dayOfMonthField.getValue(), v.getValue());
-      }
-    });
-    monthField.setWidth("35%");
-    dayOfMonthField.addValueChangeListener(v -> {
-      if (!monthField.isInvalid() && !dayOfMonthField.isInvalid()) {
-        getMonthlyExpression(v.getValue(), monthField.getValue());
+  }
+
+  /** Components of the monthly layout. They are built the first time the layout is displayed. */
+  private class MonthlyLayout extends HorizontalLayout {
+
+    private final TimePicker startsAtTp = new TimePicker();
+    private final IntegerField dayOfMonthField = new IntegerField();
+    private final IntegerField monthField = new IntegerField();
+    private final Span monthLabel = new Span();
+
+    MonthlyLayout() {
+      startsAtTp.setStep(Duration.ofMinutes(30));
+      register(startsAtTp.addValueChangeListener(v -> getStartsAtExpression(v.getValue())));
+      startsAtTp.setWidth("35%");
+      dayOfMonthField.setValue(1);
+      dayOfMonthField.setWidth("30%");
+      monthField.setSuffixComponent(monthLabel);
+      monthField.setValue(1);
+      monthField.setStepButtonsVisible(true);
+      monthField.setMin(1);
+      monthField.setMax(11);
+      register(monthField.addValueChangeListener(v -> {
+        if (!monthField.isInvalid() && !dayOfMonthField.isInvalid()) {
+          getMonthlyExpression(dayOfMonthField.getValue(), v.getValue());
+        }
+      }));
+      monthField.setWidth("35%");
+      register(dayOfMonthField.addValueChangeListener(v -> {
+        if (!monthField.isInvalid() && !dayOfMonthField.isInvalid()) {
+          getMonthlyExpression(v.getValue(), monthField.getValue());
+        }
+      }));
+      updateTexts();
+      if (helpEnabled) {
+        updateTooltips();
       }
-    });
-    if (helpEnabled) {
-      dayOfMonthField.setTooltipText(i18n.getDayOfMonthTooltip());
-      monthField.setTooltipText(i18n.getMonthFieldTooltip());
-      startsAtTp.setTooltipText(i18n.getStartsAtTooltip());
+      setWidthFull();
+      add(startsAtTp, dayOfMonthField, monthField);
+    }
+
+    void reset() {
+      startsAtTp.clear();
+      dayOfMonthField.setValue(1);
+      monthField.setValue(1);
+    }
+
+    void updateTexts() {
+      startsAtTp.setLabel(i18n.getStartsAtLabel());
+      dayOfMonthField.setLabel(i18n.getDayOfMonthLabel());
+      monthField.setLabel(i18n.getRepeatEveryLabel());
+      monthLabel.setText(i18n.getMonth());
+    }
+
+    void updateTooltips() {
+      dayOfMonthField.setTooltipText(helpEnabled ? i18n.getDayOfMonthTooltip() : null);
+      monthField.setTooltipText(helpEnabled ? i18n.getMonthFieldTooltip() : null);
+      startsAtTp.setTooltipText(helpEnabled ? i18n.getStartsAtTooltip() : null);
     }
-    HorizontalLayout layout = new HorizontalLayout(startsAtTp, dayOfMonthField, monthField);
-    layout.setWidthFull();
-    mainLayout.add(layout);
   }
 
   private void getStartsAtExpression(LocalTime startsAt) {
+    if (resettingLayout) {
+      return;
+    }
     if (inputExpressionTf.getValue().isEmpty()) {
       updateCronExpression(DEFAULT_CRON);
     }
     if (startsAt != null) {
-      Map<Integer, String> values = new HashMap<>();
-      values.put(0, String.valueOf(startsAt.getSecond()));
-      values.put(1, String.valueOf(startsAt.getMinute()));
-      values.put(2, String.valueOf(startsAt.getHour()));
-      updateCronExpression(values);
+      updateCronExpression(getCronModel().setTime(startsAt));
     }
   }
 
   private void getMonthlyExpression(Integer dayOfMonth, Integer month) {
+    if (resettingLayout) {
+      return;
+    }
     if (inputExpressionTf.getValue().isEmpty()) {
       updateCronExpression(DEFAULT_CRON);
     }
     if (dayOfMonth != null && month != null) {
-      Map<Integer, String> values = new HashMap<>();
-      values.put(3, dayOfMonth.toString());
-      values.put(4, "1/" + month.toString());
-      values.put(5, "?");
-      updateCronExpression(values);
+      CronExpressionModel model = getCronModel();
+      updateCronExpression(model.setDayOfMonth(dayOfMonth) & model.setMonthInterval(month)
+          & model.setNoSpecificValue(CronFieldType.DAY_OF_WEEK));
     }
   }
 
   private void getWeeklyExpression(Set<DayOfWeek> days) {
+    if (resettingLayout) {
+      return;
+    }
     if (inputExpressionTf.getValue().isEmpty()) {
       updateCronExpression(DEFAULT_CRON);
     }
-    Map<Integer, String> values = new HashMap<>();
-    List<String> aux = days.stream().map(d -> String.valueOf(d.getValue())).toList();
-    if (days.size() == 7 || days.size() == 0) {
-      values.put(5, "*");
-    } else {
-      values.put(5, String.join(",", aux));
-    }
-    values.put(3, "?");
-    updateCronExpression(values);
+    CronExpressionModel model = getCronModel();
+    updateCronExpression(model.setDaysOfWeek(days) & model.setNoSpecificValue(CronFieldType.DAY_OF_MONTH));
   }
 
   private void getDailyExpression(Units timeUnit, int value) {
-    Map<Integer, String> values = new HashMap<>();
-
-    String aux = "*/" + String.valueOf(value);
+    if (resettingLayout) {
+      return;
+    }
     if (inputExpressionTf.getValue().isEmpty()) {
       updateCronExpression(DEFAULT_CRON);
     }
+    CronExpressionModel model = getCronModel();
+    boolean patched = true;
     switch (timeUnit) {
       case SECONDS:
-        values.put(0, aux);
-        values.put(1, "0");
-        values.put(2, "0");
+        patched = model.setEvery(CronFieldType.SECOND, value) & model.setMinute(0) & model.setHour(0);
         break;
       case MINUTES:
-        values.put(0, "0");
-        values.put(1, aux);
-        values.put(2, "0");
+        patched = model.setSecond(0) & model.setEvery(CronFieldType.MINUTE, value) & model.setHour(0);
         break;
       case HOURS:
-        values.put(0, "0");
-        values.put(1, "0");
-        values.put(2, aux);
+        patched = model.setSecond(0) & model.setMinute(0) & model.setEvery(CronFieldType.HOUR, value);
         break;
     }
-    updateCronExpression(values);
+    updateCronExpression(patched);
   }
 
   private void showNextDates() {
     if (!inputExpressionTf.getValue().isEmpty()) {
-      grid.removeAllColumns();
-      grid.addColumn(date -> formatDate(date));
-      grid.setHeight("108px");
-      grid.setItems(q -> generateNextDate(LocalDateTime.now(), q.getOffset(), q.getLimit()));
+      if (grid == null) {
+        grid = new Grid<>();
+        grid.addColumn(date -> formatDate(date));
+        grid.setHeight("108px");
+        grid.setItems(q -> getNextDatesLoader().fetch(q.getOffset(), q.getLimit()), q -> {
+          getNextDatesLoader().request(NextDatesLoader.CHUNK_SIZE);
+          return getNextDatesLoader().size();
+        });
+      }
+      nextDatesAnchor = LocalDateTime.now();
       add(grid);
+      resetNextDates();
+    }
+  }
+
+  private boolean isNextDatesGridVisible() {
+    return grid != null && grid.getParent().isPresent();
+  }
+
+  /**
+   * Recomputes the next dates from the current date and time. The next dates are otherwise computed from the date and
+   * time at which they were displayed, so that scrolling through them always shows the same occurrences.
+   */
+  public void refreshNextDates() {
+    if (isNextDatesGridVisible()) {
+      nextDatesAnchor = LocalDateTime.now();
+      resetNextDates();
+    }
+  }
+
+  /**
+   * Returns the date and time from which the next dates are computed.
+   *
+   * @return the anchor of the next dates, or {@code null} if the next dates have not been displayed
+   */
+  public LocalDateTime getNextDatesAnchor() {
+    return nextDatesAnchor;
+  }
+
+  /**
+   * Sets the budget of the computation of the next dates. The next dates are computed in the background, in chunks, and
+   * the computation stops when a chunk takes longer than {@code timeout} or computes more than
+   * {@code maximumIterations} occurrences, so that expressions that fire rarely or never do not keep computing.
+   *
+   * @param timeout the maximum duration of the computation of a chunk
+   * @param maximumIterations the maximum number of occurrences computed by a chunk, including the occurrences that are
+   *        skipped to reach the first visible row
+   */
+  public void setNextDatesBudget(Duration timeout, int maximumIterations) {
+    if (timeout.isNegative() || maximumIterations <= 0) {
+      throw new IllegalArgumentException("The budget of the next dates must be positive");
+    }
+    nextDatesTimeout = timeout;
+    nextDatesMaximumIterations = maximumIterations;
+    if (nextDatesLoader != null) {
+      nextDatesLoader.setBudget(timeout, maximumIterations);
+    }
+  }
+
+  /**
+   * Sets the executor of the background computations of all the components, such as the next dates and the load
+   * preview. By default, a virtual thread is started per computation when running on Java 21 or later, and a cached
+   * pool of daemon threads is used otherwise.
+   *
+   * <p>
+   * The results of background computations are delivered with {@link UI#access(com.vaadin.flow.server.Command)}, so
+   * they are only computed in the background when server push is enabled, for example with {@code @Push} on the
+   * {@code AppShellConfigurator}. Without push, they are computed synchronously.
+   *
+   * @param executor the executor of the background computations
+   */
+  public static void setBackgroundExecutor(ExecutorService executor) {
+    BackgroundExecutor.set(executor);
+  }
+
+  /**
+   * Sets the instrumentation of all the components. By default, nothing is recorded.
+   *
+   * @param metrics the {@link CronExpressionFieldMetrics} that records the measurements, or {@code null} to disable
+   *        the instrumentation
+   * @see MicrometerCronExpressionFieldMetrics
+   */
+  public static void setMetrics(CronExpressionFieldMetrics metrics) {
+    CronExpressionField.metrics = metrics != null ? metrics : CronExpressionFieldMetrics.NOOP;
+  }
+
+  /**
+   * Returns the instrumentation of all the components.
+   *
+   * @return the {@link CronExpressionFieldMetrics} that records the measurements
+   */
+  public static CronExpressionFieldMetrics getMetrics() {
+    return metrics;
+  }
+
+  private NextDatesLoader getNextDatesLoader() {
+    if (nextDatesLoader == null) {
+      nextDatesLoader = new NextDatesLoader(() -> {
+        if (grid != null) {
+          grid.getDataProvider().refreshAll();
+        }
+      }, this::getLayout, nextDatesTimeout, nextDatesMaximumIterations);
+      nextDatesLoader.reset(parseCron(inputExpressionTf.getValue()), nextDatesAnchor);
     }
+    return nextDatesLoader;
   }
 
-  private Stream<LocalDateTime> generateNextDate(LocalDateTime start, int offset, int limit) {
-    CronExpression parsedExpression = CronExpression.parse(inputExpressionTf.getValue());
-    LocalDateTime firstNext = parsedExpression.next(start);
-    if (firstNext == null) {
-      return Stream.empty();
+  /** Cancels the computation of the next dates and restarts it for the current expression. */
+  private void resetNextDates() {
+    if (nextDatesAnchor == null) {
+      nextDatesAnchor = LocalDateTime.now();
+    }
+    getNextDatesLoader().reset(parseCron(inputExpressionTf.getValue()), nextDatesAnchor);
+    if (isNextDatesGridVisible()) {
+      grid.getDataProvider().refreshAll();
     }
-    return Stream.iterate(firstNext, Objects::nonNull, parsedExpression::next).skip(offset)
-        .limit(limit);
   }
 
-  private String formatDate(LocalDateTime date) {
-    DateTimeFormatter dateFormatter = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.LONG, FormatStyle.MEDIUM)
-        .withLocale(locale == null ? Locale.ENGLISH : locale);
+  String formatDate(LocalDateTime date) {
+    if (dateFormatter == null) {
+      dateFormatter = DateTimeFormatters.get(locale == null ? Locale.ENGLISH : locale, dateStyle, timeStyle);
+    }
     return date.format(dateFormatter);
   }
 
+  /**
+   * Sets the styles used for formatting the next dates. By default, dates are formatted with {@link FormatStyle#LONG}
+   * and times with {@link FormatStyle#MEDIUM}.
+   *
+   * @param dateStyle the {@link FormatStyle} of the date part
+   * @param timeStyle the {@link FormatStyle} of the time part
+   */
+  public void setDateTimeStyle(FormatStyle dateStyle, FormatStyle timeStyle) {
+    this.dateStyle = Objects.requireNonNull(dateStyle);
+    this.timeStyle = Objects.requireNonNull(timeStyle);
+    refreshDateFormatter();
+  }
+
+  /**
+   * Returns the style used for formatting the date part of the next dates.
+   *
+   * @return the {@link FormatStyle} of the date part
+   */
+  public FormatStyle getDateStyle() {
+    return dateStyle;
+  }
+
+  /**
+   * Returns the style used for formatting the time part of the next dates.
+   *
+   * @return the {@link FormatStyle} of the time part
+   */
+  public FormatStyle getTimeStyle() {
+    return timeStyle;
+  }
+
+  private void refreshDateFormatter() {
+    dateFormatter = null;
+    if (isNextDatesGridVisible()) {
+      grid.getDataProvider().refreshAll();
+    }
+  }
+
   /**
    * Enables or disables user input for the cron expression text field.
    * 
@@ -469,16 +882,174 @@ public class CronExpressionField extends CustomField<String> {
 
   /**
    * Displays a button that generates a grid with the next dates scheduled by the generated cron expression.
+   *
+   * <p>
+   * When server push is enabled, the next dates are computed in the background and displayed as soon as they are
+   * computed. Otherwise, they are computed while the grid is being rendered, within the budget set with
+   * {@link #setNextDatesBudget(Duration, int)}.
    * 
    * @param nextDatesVisible a {@code boolean} to set the visibility of the button
    */
   public void setNextDatesButtonVisible(boolean nextDatesVisible) {
     nextDatesBtn.setVisible(nextDatesVisible);
-    if (!nextDatesBtn.isVisible()) {
+    if (!nextDatesBtn.isVisible() && grid != null) {
       remove(grid);
+      if (nextDatesLoader != null) {
+        nextDatesLoader.cancel();
+      }
+    }
+  }
+
+  /**
+   * Displays a histogram of the number of times the expression fires, next to its description. The histogram is
+   * computed in the background when the expression changes, and it is displayed as soon as the UI is updated. By
+   * default, the histogram covers the next week, by hour.
+   *
+   * @param loadPreviewVisible a {@code boolean} to set the visibility of the load preview
+   */
+  public void setLoadPreviewVisible(boolean loadPreviewVisible) {
+    loadPreviewLayout.setVisible(loadPreviewVisible);
+    refreshLoadPreview();
+  }
+
+  /**
+   * Returns whether the load preview is visible.
+   *
+   * @return {@code true} if the load preview is visible, {@code false} otherwise
+   */
+  public boolean isLoadPreviewVisible() {
+    return loadPreviewLayout.isVisible();
+  }
+
+  /**
+   * Displays links next to the next dates button that download the next dates of the expression as CSV or as an
+   * iCalendar file. The dates are computed while they are downloaded, so that the memory used does not depend on their
+   * number. The links are disabled while the expression is not valid. The export is hidden by default.
+   *
+   * @param exportVisible whether the export links are visible
+   * @see #setExportLimit(int)
+   * @see CronOccurrencesExport
+   */
+  public void setExportVisible(boolean exportVisible) {
+    if (exportVisible && exportLayout == null) {
+      exportCsvBtn = new Button(i18n.getExportCsvLabel());
+      exportICalendarBtn = new Button(i18n.getExportICalendarLabel());
+      exportLayout = new Span(
+          createExportAnchor("occurrences.csv", "text/csv", exportCsvBtn, CronOccurrencesExport::writeCsv),
+          createExportAnchor("occurrences.ics", "text/calendar", exportICalendarBtn,
+              CronOccurrencesExport::writeICalendar));
+      exportLayout.addClassName("fc-cron-export");
+      getElement().insertChild(getElement().indexOfChild(nextDatesBtn.getElement()) + 1, exportLayout.getElement());
+      updateExport(validateCron(inputExpressionTf.getValue()));
+    }
+    if (exportLayout != null) {
+      exportLayout.setVisible(exportVisible);
     }
   }
 
+  /**
+   * Returns whether the export links are visible.
+   *
+   * @return {@code true} if the next dates can be exported
+   */
+  public boolean isExportVisible() {
+    return exportLayout != null && exportLayout.isVisible();
+  }
+
+  /**
+   * Sets the number of next dates that are exported. By default, 1000 dates are exported.
+   *
+   * @param exportLimit the number of dates
+   * @throws IllegalArgumentException if {@code exportLimit} is not positive
+   */
+  public void setExportLimit(int exportLimit) {
+    if (exportLimit <= 0) {
+      throw new IllegalArgumentException("The number of exported dates must be positive");
+    }
+    this.exportLimit = exportLimit;
+  }
+
+  /**
+   * Returns the number of next dates that are exported.
+   *
+   * @return the number of dates
+   */
+  public int getExportLimit() {
+    return exportLimit;
+  }
+
+  /** Writes the occurrences of an expression to a file. */
+  @FunctionalInterface
+  private interface ExportWriter extends Serializable {
+    void write(String expression, LocalDateTime from, long limit, Writer writer) throws IOException;
+  }
+
+  private Anchor createExportAnchor(String fileName, String contentType, Button button, ExportWriter exportWriter) {
+    StreamResource resource = new StreamResource(fileName, (stream, session) -> {
+      String expression;
+      int limit;
+      boolean valid;
+      session.lock();
+      try {
+        expression = inputExpressionTf.getValue();
+        limit = exportLimit;
+        valid = validateCron(expression);
+      } finally {
+        session.unlock();
+      }
+      if (!valid) {
+        // the links are disabled while the expression is not valid, so this is a stale request
+        throw new IOException("Invalid cron expression: " + expression);
+      }
+      Writer writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+      exportWriter.write(expression, LocalDateTime.now(), limit, writer);
+    });
+    resource.setContentType(contentType);
+    button.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+    Anchor anchor = new Anchor(resource, "");
+    anchor.getElement().setAttribute("download", true);
+    anchor.add(button);
+    return anchor;
+  }
+
+  /**
+   * Enables the export links only while the expression is valid. Disabled anchors have no {@code href}, and their
+   * resources are not served, so that no empty file is downloaded.
+   */
+  private void updateExport(boolean valid) {
+    if (exportLayout != null) {
+      exportLayout.getChildren().forEach(anchor -> ((Anchor) anchor).setEnabled(valid));
+    }
+  }
+
+  /**
+   * Sets the buckets of the load preview.
+   *
+   * @param unit the size of the buckets, one of {@link ChronoUnit#MINUTES}, {@link ChronoUnit#HOURS} or
+   *        {@link ChronoUnit#DAYS}
+   * @param buckets the number of buckets
+   * @throws IllegalArgumentException if the unit is not supported or the number of buckets is not positive
+   */
+  public void setLoadPreviewHorizon(ChronoUnit unit, int buckets) {
+    if (unit != ChronoUnit.MINUTES && unit != ChronoUnit.HOURS && unit != ChronoUnit.DAYS) {
+      throw new IllegalArgumentException("Unsupported unit: " + unit);
+    }
+    if (buckets <= 0) {
+      throw new IllegalArgumentException("buckets must be positive");
+    }
+    loadPreviewUnit = unit;
+    loadPreviewBuckets = buckets;
+    refreshLoadPreview();
+  }
+
+  private void refreshLoadPreview() {
+    loadPreviewExpression = null;
+    loadHistogramChart.setHistogram(null);
+    CronExpressionCache.Entry parsed = parseCron(inputExpressionTf.getValue());
+    updateLoadPreview(parsed != null && parsed.isValid() ? parsed.getExpression() : null);
+  }
+
+
   /**
    * Allows the developer to set a default expression.
    * 
@@ -497,26 +1068,121 @@ public class CronExpressionField extends CustomField<String> {
    * Sets a list of cron expressions to be displayed if setCommonExpressionsVisible is enabled.
    * 
    * <p>
-   * The method validates the cron expressions to be added.
+   * The method validates the cron expressions to be added. If any of them is not valid, none of them is added. Use
+   * {@link CronValidator#validateAll(java.util.Collection)} to find out which expressions are not valid.
    * 
    * @param crons one or more strings of cron expressions to be validated
    * @return a {@code boolean} indicating if all the cron expressions pass the validation
    */
   public boolean addCommonExpressions(String... crons) {
+    if (!CronValidator.validateAll(Arrays.asList(crons)).stream().allMatch(CronValidationResult::isValid)) {
+      return false;
+    }
     if (commonExpressionsList == null) {
       commonExpressionsList = new ArrayList<>();
     }
-    for (String cron : crons) {
-      if (validateCron(cron)) {
-        commonExpressionsList.add(cron);
-      } else {
-        return false;
-      }
+    commonExpressionsList.addAll(Arrays.asList(crons));
+    commonExpressionLabels = null;
+    filteredCommonExpressions = null;
+    if (!commonExpressionsLazyLoading) {
+      commonExpressionsList.forEach(this::getCommonExpressionLabel);
     }
-    commonExpressionsCb.setItems(commonExpressionsList);
+    commonExpressionsDataProvider = null;
+    setCommonExpressionsItems();
     return true;
   }
 
+  /**
+   * Sets a data provider for the common expressions ComboBox, replacing the expressions added with
+   * {@link #addCommonExpressions(String...)}.
+   *
+   * <p>
+   * The data provider is queried page by page with the text typed by the user as filter. Use a
+   * {@link CommonExpressionsDataProvider} to serve large catalogs of expressions, filtered on the server by their
+   * expression and their description in the locale of this field.
+   *
+   * @param dataProvider the data provider of common expressions
+   */
+  public void setCommonExpressionsDataProvider(BackEndDataProvider<String, String> dataProvider) {
+    commonExpressionsDataProvider = Objects.requireNonNull(dataProvider);
+    if (dataProvider instanceof CommonExpressionsDataProvider provider) {
+      provider.setLocale(locale);
+    }
+    commonExpressionsList = null;
+    commonExpressionLabels = null;
+    filteredCommonExpressions = null;
+    commonExpressionsCb.setItems(dataProvider);
+  }
+
+  /**
+   * Sets whether the common expressions are loaded lazily into the ComboBox.
+   *
+   * <p>
+   * By default, the labels of all the common expressions are computed when they are added. When lazy loading is
+   * enabled, the common expressions are fetched page by page and their labels are only computed for the pages that are
+   * displayed; the expressions searched by the user are matched against their descriptions without computing labels.
+   *
+   * @param commonExpressionsLazyLoading a {@code boolean} indicating if the common expressions are loaded lazily
+   */
+  public void setCommonExpressionsLazyLoading(boolean commonExpressionsLazyLoading) {
+    if (this.commonExpressionsLazyLoading != commonExpressionsLazyLoading) {
+      this.commonExpressionsLazyLoading = commonExpressionsLazyLoading;
+      setCommonExpressionsItems();
+    }
+  }
+
+  private void setCommonExpressionsItems() {
+    if (commonExpressionsList == null) {
+      return;
+    }
+    if (commonExpressionsLazyLoading) {
+      commonExpressionsCb.setItems(query -> {
+        List<String> filtered = filterCommonExpressions(query.getFilter().orElse(""));
+        int end = (int) Math.min((long) query.getOffset() + query.getLimit(), filtered.size());
+        return filtered.subList(Math.min(query.getOffset(), end), end).stream();
+      }, query -> filterCommonExpressions(query.getFilter().orElse("")).size());
+    } else {
+      commonExpressionsCb.setItems(commonExpressionsList);
+    }
+  }
+
+  /**
+   * Filters the common expressions by their expression and description. The labels are not computed here, so that only
+   * the labels of the fetched pages are memoized. The result of the last filter is kept, so that the count and fetch
+   * queries of the same filter do not filter the common expressions twice.
+   */
+  private List<String> filterCommonExpressions(String filter) {
+    if (filter.isEmpty()) {
+      return commonExpressionsList;
+    }
+    if (filteredCommonExpressions == null || !filter.equals(commonExpressionsFilter)) {
+      String lowerCaseFilter = filter.toLowerCase();
+      Locale descriptionLocale = locale == null ? Locale.ENGLISH : locale;
+      filteredCommonExpressions = commonExpressionsList.stream()
+          .filter(cron -> cron.toLowerCase().contains(lowerCaseFilter) || CronExpressionCache.lookup(cron)
+              .getDescription(descriptionLocale).toLowerCase().contains(lowerCaseFilter))
+          .toList();
+      commonExpressionsFilter = filter;
+    }
+    return filteredCommonExpressions;
+  }
+
+  /**
+   * Returns the label of a common expression in the locale of the field. Labels are memoized until the locale or the
+   * common expressions change. The expressions are looked up without adding them to the shared
+   * {@link CronExpressionCache}, so that the catalog does not evict the expressions being edited nor count as lookups of
+   * the field.
+   */
+  private String getCommonExpressionLabel(String cron) {
+    if (commonExpressionLabels == null) {
+      commonExpressionLabels = new HashMap<>();
+    }
+    return commonExpressionLabels.computeIfAbsent(cron, c -> {
+      String description = CronExpressionCache.lookup(c).getDescription(locale == null ? Locale.ENGLISH : locale);
+      return description == null ? c : description + " (" + c + ")";
+    });
+  }
+
   /**
    * Sets visible a ComboBox with common expressions.
    * 
@@ -528,7 +1194,8 @@ public class CronExpressionField extends CustomField<String> {
    */
   public void setCommonExpressionsVisible(boolean commonExpressionsVisible) {
     this.commonExpressionsVisible = commonExpressionsVisible;
-    resetUI();
+    commonExpressionsCb.setVisible(commonExpressionsVisible
+        && cronExpressionLayoutCb.getValue() == LayoutOptions.ADVANCED);
   }
 
   /**
@@ -537,8 +1204,91 @@ public class CronExpressionField extends CustomField<String> {
    * @param helpEnabled a {@code boolean} indicating if the tooltip is displayed or not
    */
   public void setHelpEnabled(boolean helpEnabled) {
-    this.helpEnabled = helpEnabled;
-    resetUI();
+    if (this.helpEnabled != helpEnabled) {
+      this.helpEnabled = helpEnabled;
+      updateTooltips();
+    }
+  }
+
+  /**
+   * Sets whether the cron expression is validated and described in the browser while the user types.
+   *
+   * <p>
+   * When enabled, the user gets immediate feedback without a server round-trip for each keystroke, and the expression
+   * is only committed to the server, which validates it authoritatively, on blur or when the user presses Enter. The
+   * value change mode is set to {@link ValueChangeMode#ON_CHANGE}. Descriptions are only rendered in the browser when
+   * the locale of the field is English; for other locales the browser only validates the expression. Expressions that
+   * use syntax the browser does not check, such as the {@code L}, {@code W} and {@code #} day variants or macros, are
+   * marked as pending until they are committed.
+   *
+   * @param clientSideValidationEnabled a {@code boolean} indicating if the expression is validated in the browser
+   */
+  public void setClientSideValidationEnabled(boolean clientSideValidationEnabled) {
+    if (this.clientSideValidationEnabled != clientSideValidationEnabled) {
+      this.clientSideValidationEnabled = clientSideValidationEnabled;
+      if (clientSideValidationEnabled) {
+        inputExpressionTf.setValueChangeMode(ValueChangeMode.ON_CHANGE);
+      }
+      if (isAttached()) {
+        configureClientSideValidation();
+      }
+    }
+  }
+
+  /**
+   * Returns whether the cron expression is validated and described in the browser while the user types.
+   *
+   * @return {@code true} if client-side validation is enabled, {@code false} otherwise
+   */
+  public boolean isClientSideValidationEnabled() {
+    return clientSideValidationEnabled;
+  }
+
+  private void configureClientSideValidation() {
+    if (clientSideValidationEnabled) {
+      boolean describe = locale == null || Locale.ENGLISH.getLanguage().equals(locale.getLanguage());
+      inputExpressionTf.getElement().executeJs("window.Vaadin.Flow.fcCronExpressionField.enable(this, $0, $1, $2)",
+          cronDescriptionDiv.getElement(), i18n.getDescriptionPlaceholder(), describe);
+    } else {
+      inputExpressionTf.getElement().executeJs("window.Vaadin.Flow.fcCronExpressionField.disable(this)");
+    }
+  }
+
+  /**
+   * Sets the mode in which the cron expression typed by the user is committed to the server.
+   *
+   * <p>
+   * Validation, the description of the expression and the value of this field are updated when the expression is
+   * committed. The default mode is {@link ValueChangeMode#ON_CHANGE}, which commits the expression on blur or when the
+   * user presses Enter. Use {@link ValueChangeMode#LAZY} together with {@link #setValueChangeTimeout(int)} for
+   * debounced updates while typing, or {@link ValueChangeMode#EAGER} to update on every keystroke.
+   *
+   * @param valueChangeMode the new value change mode, or {@code null} to disable value synchronization
+   */
+  @Override
+  public void setValueChangeMode(ValueChangeMode valueChangeMode) {
+    inputExpressionTf.setValueChangeMode(valueChangeMode);
+  }
+
+  @Override
+  public ValueChangeMode getValueChangeMode() {
+    return inputExpressionTf.getValueChangeMode();
+  }
+
+  /**
+   * Sets how often, in milliseconds, the cron expression is committed while the user types, when the value change mode
+   * is {@link ValueChangeMode#LAZY} or {@link ValueChangeMode#TIMEOUT}.
+   *
+   * @param valueChangeTimeout the timeout in milliseconds
+   */
+  @Override
+  public void setValueChangeTimeout(int valueChangeTimeout) {
+    inputExpressionTf.setValueChangeTimeout(valueChangeTimeout);
+  }
+
+  @Override
+  public int getValueChangeTimeout() {
+    return inputExpressionTf.getValueChangeTimeout();
   }
 
   @Override
@@ -552,38 +1302,79 @@ public class CronExpressionField extends CustomField<String> {
   }
 
   /**
-   * Sets the {@link Locale} for this component.
+   * Sets the {@link Locale} for this component. If no i18n was set, the shared default i18n of the locale is used, as
+   * returned by {@link CronExpressionFieldI18n#getDefault(Locale)}.
    *
    * @param locale the {@link Locale} to be used
    */
   public void setLocale(Locale locale) {
     this.locale = locale;
+    if (!applyDefaultI18n()) {
+      refreshDescription();
+    }
+    refreshDateFormatter();
+    if (commonExpressionsDataProvider instanceof CommonExpressionsDataProvider provider) {
+      provider.setLocale(locale);
+    }
+    filteredCommonExpressions = null;
+    if (commonExpressionLabels != null) {
+      commonExpressionLabels = null;
+      commonExpressionsCb.getGenericDataView().refreshAll();
+    }
+    if (clientSideValidationEnabled && isAttached()) {
+      configureClientSideValidation();
+    }
   }
 
   /**
    * Sets the internationalization settings for the field.
    * <p>
-   * If {@code i18n} is {@code null}, default internationalization to english.
+   * If {@code i18n} is {@code null}, the shared default i18n of the locale of the field is used, which is english
+   * unless another one was registered with {@link CronExpressionFieldI18n#setDefault(Locale, CronExpressionFieldI18n)}.
    * </p>
    *
    * @param i18n the {@link CronExpressionFieldI18n} to use, or {@code null} for default
    */
   public void setI18n(CronExpressionFieldI18n i18n) {
-    this.i18n = (i18n != null) ? i18n : CronExpressionFieldI18n.createDefault();
+    customI18n = i18n;
+    applyI18n((i18n != null) ? i18n : CronExpressionFieldI18n.getDefault(locale));
+  }
+
+  /**
+   * Applies the shared default i18n of the locale, if no i18n was set and another instance is applied.
+   *
+   * @return whether the i18n was applied
+   */
+  private boolean applyDefaultI18n() {
+    CronExpressionFieldI18n defaultI18n = CronExpressionFieldI18n.getDefault(locale);
+    if (customI18n != null || i18n == defaultI18n) {
+      return false;
+    }
+    applyI18n(defaultI18n);
+    return true;
+  }
+
+  private void applyI18n(CronExpressionFieldI18n i18n) {
+    this.i18n = i18n;
+    updateTexts();
     getUI().ifPresent(ui -> setI18nWithJS());
+    if (clientSideValidationEnabled && isAttached()) {
+      configureClientSideValidation();
+    }
   }
 
   private void setI18nWithJS() {
-    runBeforeClientResponse(ui -> {
-      JsonObject i18nObject = (JsonObject) JsonSerializer.toJson(i18n);
-      for (String key : i18nObject.keys()) {
-        getElement().executeJs("this.set('i18n." + key + "', $0)", i18nObject.get(key));
-      }
-    });
+    runBeforeClientResponse(ui -> getElement().executeJs("this.set('i18n', Object.assign({}, this.i18n, $0))",
+        i18n.toJson()));
   }
 
   private void runBeforeClientResponse(SerializableConsumer<UI> command) {
     getElement().getNode().runWhenAttached(ui -> ui.beforeClientResponse(this, context -> command.accept(ui)));
   }
 
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    i18n = (customI18n != null) ? customI18n : CronExpressionFieldI18n.getDefault(locale);
+  }
+
 }
@@ -20,17 +20,41 @@
 
 package com.flowingcode.vaadin.addons.cronexpressionfield;
 
+import com.vaadin.flow.i18n.I18NProvider;
+import com.vaadin.flow.internal.JsonSerializer;
+import elemental.json.JsonObject;
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Internationalization object for customizing the component UI texts. An instance with the default messages can be
  * obtained using {@link CronExpressionFieldI18n#createDefault()}.
  *
+ * <p>
+ * The instances returned by {@link #getDefault(Locale)} are shared by all the components, so they are read-only: their
+ * setters throw {@link UnsupportedOperationException}. A modifiable copy of them is returned by
+ * {@link #createDefault(Locale)}.
+ *
  * @author Sofia Nuñez / Flowing Code
  */
 public class CronExpressionFieldI18n implements Serializable {
+  private static final CronExpressionFieldI18n DEFAULT = new CronExpressionFieldI18n().share(null);
+
+  private static final Map<Locale, CronExpressionFieldI18n> LOCALE_DEFAULTS = new ConcurrentHashMap<>();
+
+  /** The translations of the resource bundle of the add-on, used when there is no {@link I18NProvider}. */
+  private static final Map<Locale, CronExpressionFieldI18n> TRANSLATIONS = new ConcurrentHashMap<>();
+
+  /** The translations of each {@link I18NProvider}, which are discarded with the provider. */
+  private static final Map<I18NProvider, Map<Locale, CronExpressionFieldI18n>> PROVIDER_TRANSLATIONS =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
   private Map<LayoutOptions, String> layoutOptions;
   private String cronExpressionLabel;
   private String clearBtn;
@@ -38,11 +62,16 @@ public class CronExpressionFieldI18n implements Serializable {
   private Map<CronExpressionField.Units, String> units;
   private String descriptionLabel;
   private String descriptionPlaceholder;
+  private String neverFiresMessage;
+  private String intervalLabel;
   private String dayOfMonthLabel;
   private String repeatEveryLabel;
   private String month;
   private String showNextDatesBtn;
   private String commonExpressionsLabel;
+  private String loadPreviewLabel;
+  private String exportCsvLabel;
+  private String exportICalendarLabel;
 
   // tooltips
   private String timeAmountTooltip;
@@ -52,6 +81,15 @@ public class CronExpressionFieldI18n implements Serializable {
   private String monthFieldTooltip;
   private String inputExpressionTooltip;
 
+  /** Whether this instance is shared by the components, in which case it is read-only. */
+  private boolean shared;
+
+  /** The locale under which this instance is shared, or {@code null} for {@link #DEFAULT}. */
+  private Locale sharedLocale;
+
+  /** The JSON sent to the client, shared by all the components using this instance. Reset by every setter. */
+  private transient volatile JsonObject json;
+
   /** Constructor for creating the default instance of the object. */
   private CronExpressionFieldI18n() {
     this.layoutOptions =
@@ -63,11 +101,16 @@ public class CronExpressionFieldI18n implements Serializable {
         CronExpressionField.Units.HOURS, "Hours");
     this.descriptionLabel = "Description";
     this.descriptionPlaceholder = "Expression invalid or empty";
+    this.neverFiresMessage = "Expression never fires";
+    this.intervalLabel = "Interval";
     this.dayOfMonthLabel = "Day of month";
     this.repeatEveryLabel = "Repeat every";
     this.month = "Months";
     this.showNextDatesBtn = "Show next dates";
     this.commonExpressionsLabel = "Common expressions";
+    this.loadPreviewLabel = "Load";
+    this.exportCsvLabel = "Export CSV";
+    this.exportICalendarLabel = "Export iCalendar";
     this.timeAmountTooltip = "Enter the time interval for cron repetition, in minutes, seconds, or hours";
     this.daySelectorTooltip = "Select the days the task will occur; if none are selected, it defaults to daily";
     this.startsAtTooltip = "Choose the moment of the day that the task will begin";
@@ -77,6 +120,32 @@ public class CronExpressionFieldI18n implements Serializable {
 
   }
 
+  private CronExpressionFieldI18n(CronExpressionFieldI18n other) {
+    layoutOptions = other.layoutOptions;
+    cronExpressionLabel = other.cronExpressionLabel;
+    clearBtn = other.clearBtn;
+    startsAtLabel = other.startsAtLabel;
+    units = other.units;
+    descriptionLabel = other.descriptionLabel;
+    descriptionPlaceholder = other.descriptionPlaceholder;
+    neverFiresMessage = other.neverFiresMessage;
+    intervalLabel = other.intervalLabel;
+    dayOfMonthLabel = other.dayOfMonthLabel;
+    repeatEveryLabel = other.repeatEveryLabel;
+    month = other.month;
+    showNextDatesBtn = other.showNextDatesBtn;
+    commonExpressionsLabel = other.commonExpressionsLabel;
+    loadPreviewLabel = other.loadPreviewLabel;
+    exportCsvLabel = other.exportCsvLabel;
+    exportICalendarLabel = other.exportICalendarLabel;
+    timeAmountTooltip = other.timeAmountTooltip;
+    daySelectorTooltip = other.daySelectorTooltip;
+    startsAtTooltip = other.startsAtTooltip;
+    dayOfMonthTooltip = other.dayOfMonthTooltip;
+    monthFieldTooltip = other.monthFieldTooltip;
+    inputExpressionTooltip = other.inputExpressionTooltip;
+  }
+
   /**
    * Creates a new instance of {@code CronExpressionFieldI18n} with default values.
    *
@@ -86,6 +155,108 @@ public class CronExpressionFieldI18n implements Serializable {
     return new CronExpressionFieldI18n();
   }
 
+  /**
+   * Creates a new instance of {@code CronExpressionFieldI18n} with the default messages of the given locale, as
+   * returned by {@link #getDefault(Locale)}. Unlike the shared instance, the new instance can be modified.
+   *
+   * @param locale the locale of the messages, or {@code null} for the default messages
+   * @return a new {@code CronExpressionFieldI18n} instance
+   */
+  public static CronExpressionFieldI18n createDefault(Locale locale) {
+    return new CronExpressionFieldI18n(getDefault(locale));
+  }
+
+  /** Returns the JSON representation of this instance, which is computed once until it is modified. */
+  JsonObject toJson() {
+    JsonObject result = json;
+    if (result == null) {
+      json = result = (JsonObject) JsonSerializer.toJson(this);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the shared default instance of the given locale, which is used by the components that were not given an
+   * i18n. The instance registered with {@link #setDefault(Locale, CronExpressionFieldI18n)} for the locale, or else for
+   * its language, is returned. Otherwise, the messages are translated through the {@link I18NProvider} of the
+   * current application and the resource bundle of the add-on (english and spanish), using the keys described in the
+   * {@code messages.properties} bundle, and cached for the provider. Outside a request, or when the application has no
+   * provider, only the resource bundle of the add-on is used.
+   *
+   * @param locale the locale of the messages, or {@code null} for the default messages
+   * @return the shared read-only instance
+   */
+  public static CronExpressionFieldI18n getDefault(Locale locale) {
+    if (locale == null) {
+      return DEFAULT;
+    }
+    CronExpressionFieldI18n result = LOCALE_DEFAULTS.get(locale);
+    if (result == null && !locale.getCountry().isEmpty()) {
+      result = LOCALE_DEFAULTS.get(new Locale(locale.getLanguage()));
+    }
+    if (result == null) {
+      I18NProvider provider = CronExpressionFieldTranslations.getCurrentProvider();
+      Map<Locale, CronExpressionFieldI18n> translations = provider == null ? TRANSLATIONS
+          : PROVIDER_TRANSLATIONS.computeIfAbsent(provider, p -> new ConcurrentHashMap<>());
+      result = translations.computeIfAbsent(locale, l -> {
+        CronExpressionFieldI18n translated = CronExpressionFieldTranslations.translate(l, provider);
+        return translated != null ? translated.share(l) : DEFAULT;
+      });
+    }
+    return result;
+  }
+
+  /**
+   * Registers the shared default instance of the given locale. A read-only copy of {@code i18n} is registered, so
+   * modifying {@code i18n} afterwards has no effect.
+   *
+   * @param locale the locale of the messages
+   * @param i18n the messages, or {@code null} to remove the instance of the locale
+   */
+  public static void setDefault(Locale locale, CronExpressionFieldI18n i18n) {
+    Objects.requireNonNull(locale, "locale must not be null");
+    if (i18n == null) {
+      LOCALE_DEFAULTS.remove(locale);
+    } else {
+      LOCALE_DEFAULTS.put(locale, new CronExpressionFieldI18n(i18n).share(locale));
+    }
+  }
+
+  private CronExpressionFieldI18n share(Locale locale) {
+    shared = true;
+    sharedLocale = locale;
+    return this;
+  }
+
+  /** Checks that this instance is not shared, and discards its JSON representation, before it is modified. */
+  private void beforeChange() {
+    if (shared) {
+      throw new UnsupportedOperationException(
+          "The shared default i18n cannot be modified, use createDefault(Locale) to obtain a modifiable copy");
+    }
+    json = null;
+  }
+
+  /**
+   * Serializes shared instances by their locale, so that they are resolved to the shared instance when read. The
+   * default messages are serialized without a locale, so that they are not mistaken for a translation.
+   */
+  private Object writeReplace() {
+    return shared ? new SharedInstance(sharedLocale) : this;
+  }
+
+  /**
+   * The serialized form of a shared instance. It is resolved with {@link #getDefault(Locale)}, so when it is read
+   * outside a request it resolves to the translations of the add-on, without those of the application, and it is not
+   * cached for the application: the components apply the instance of the application when they are attached. A
+   * {@code null} locale stands for the default messages, which are resolved to {@link #DEFAULT} itself.
+   */
+  private record SharedInstance(Locale locale) implements Serializable {
+    private Object readResolve() {
+      return locale == null ? DEFAULT : getDefault(locale);
+    }
+  }
+
   /**
    * Gets the label for the cron expression input.
    *
@@ -100,8 +271,10 @@ public class CronExpressionFieldI18n implements Serializable {
    *
    * @param cronExpressionLabel the label to set
    * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
    */
   public CronExpressionFieldI18n setCronExpressionLabel(String cronExpressionLabel) {
+    beforeChange();
     this.cronExpressionLabel = cronExpressionLabel;
     return this;
   }
@@ -120,8 +293,10 @@ public class CronExpressionFieldI18n implements Serializable {
    *
    * @param clearBtn the label to set
    * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
    */
   public CronExpressionFieldI18n setClearBtn(String clearBtn) {
+    beforeChange();
     this.clearBtn = clearBtn;
     return this;
   }
@@ -139,8 +314,10 @@ public class CronExpressionFieldI18n implements Serializable {
    * Sets the localized layout option labels.
    *
    * @param layoutOptions a map of layout options and labels
+   * @throws UnsupportedOperationException if this instance is shared
    */
   public CronExpressionFieldI18n setLayoutOptions(Map<LayoutOptions, String> layoutOptions) {
+    beforeChange();
     this.layoutOptions = new HashMap<>(layoutOptions);
     return this;
   }
@@ -158,8 +335,10 @@ public class CronExpressionFieldI18n implements Serializable {
    * Sets the label for the "Starts at" field.
    *
    * @param startsAtLabel the label to set
+   * @throws UnsupportedOperationException if this instance is shared
    */
   public CronExpressionFieldI18n setStartsAtLabel(String startsAtLabel) {
+    beforeChange();
     this.startsAtLabel = startsAtLabel;
     return this;
   }
@@ -169,8 +348,10 @@ public class CronExpressionFieldI18n implements Serializable {
    *
    * @param timePickerLabel the label to set
    * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
    */
   public CronExpressionFieldI18n setTimePickerLabel(String timePickerLabel) {
+    beforeChange();
     this.startsAtLabel = timePickerLabel;
     return this;
   }
@@ -189,8 +370,10 @@ public class CronExpressionFieldI18n implements Serializable {
    *
    * @param units the list of units
    * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
    */
   public CronExpressionFieldI18n setUnits(Map<CronExpressionField.Units, String> units) {
+    beforeChange();
     this.units = units;
     return this;
   }
@@ -209,8 +392,10 @@ public class CronExpressionFieldI18n implements Serializable {
    *
    * @param descriptionLabel the label to set
    * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
    */
   public CronExpressionFieldI18n setDescriptionLabel(String descriptionLabel) {
+    beforeChange();
     this.descriptionLabel = descriptionLabel;
     return this;
   }
@@ -229,12 +414,58 @@ public class CronExpressionFieldI18n implements Serializable {
    *
    * @param descriptionPlaceholder the placeholder to set
    * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
    */
   public CronExpressionFieldI18n setDescriptionPlaceholder(String descriptionPlaceholder) {
+    beforeChange();
     this.descriptionPlaceholder = descriptionPlaceholder;
     return this;
   }
 
+  /**
+   * Gets the message displayed as description of an expression that never fires.
+   *
+   * @return the never fires message
+   */
+  public String getNeverFiresMessage() {
+    return neverFiresMessage;
+  }
+
+  /**
+   * Sets the message displayed as description of an expression that never fires.
+   *
+   * @param neverFiresMessage the message to set
+   * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
+   */
+  public CronExpressionFieldI18n setNeverFiresMessage(String neverFiresMessage) {
+    beforeChange();
+    this.neverFiresMessage = neverFiresMessage;
+    return this;
+  }
+
+  /**
+   * Gets the label for the interval between two consecutive occurrences.
+   *
+   * @return the interval label
+   */
+  public String getIntervalLabel() {
+    return intervalLabel;
+  }
+
+  /**
+   * Sets the label for the interval between two consecutive occurrences.
+   *
+   * @param intervalLabel the label to set
+   * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
+   */
+  public CronExpressionFieldI18n setIntervalLabel(String intervalLabel) {
+    beforeChange();
+    this.intervalLabel = intervalLabel;
+    return this;
+  }
+
   /**
    * Gets the label for the day-of-month field.
    *
@@ -249,8 +480,10 @@ public class CronExpressionFieldI18n implements Serializable {
    *
    * @param dayOfMonthLabel the label to set
    * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
    */
   public CronExpressionFieldI18n setDayOfMonthLabel(String dayOfMonthLabel) {
+    beforeChange();
     this.dayOfMonthLabel = dayOfMonthLabel;
     return this;
   }
@@ -269,8 +502,10 @@ public class CronExpressionFieldI18n implements Serializable {
    *
    * @param repeatEveryLabel the label to set
    * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
    */
   public CronExpressionFieldI18n setRepeatEveryLabel(String repeatEveryLabel) {
+    beforeChange();
     this.repeatEveryLabel = repeatEveryLabel;
     return this;
   }
@@ -289,8 +524,10 @@ public class CronExpressionFieldI18n implements Serializable {
    *
    * @param month the label to set
    * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
    */
   public CronExpressionFieldI18n setMonth(String month) {
+    beforeChange();
     this.month = month;
     return this;
   }
@@ -309,8 +546,10 @@ public class CronExpressionFieldI18n implements Serializable {
    *
    * @param showNextDatesBtn the label to set
    * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
    */
   public CronExpressionFieldI18n setShowNextDatesBtn(String showNextDatesBtn) {
+    beforeChange();
     this.showNextDatesBtn = showNextDatesBtn;
     return this;
   }
@@ -329,12 +568,80 @@ public class CronExpressionFieldI18n implements Serializable {
    *
    * @param commonExpressionsLabel the label to set
    * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
    */
   public CronExpressionFieldI18n setCommonExpressionsLabel(String commonExpressionsLabel) {
+    beforeChange();
     this.commonExpressionsLabel = commonExpressionsLabel;
     return this;
   }
 
+  /**
+   * Gets the label for the load preview.
+   *
+   * @return the load preview label
+   */
+  public String getLoadPreviewLabel() {
+    return loadPreviewLabel;
+  }
+
+  /**
+   * Sets the label for the load preview.
+   *
+   * @param loadPreviewLabel the label to set
+   * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
+   */
+  public CronExpressionFieldI18n setLoadPreviewLabel(String loadPreviewLabel) {
+    beforeChange();
+    this.loadPreviewLabel = loadPreviewLabel;
+    return this;
+  }
+
+  /**
+   * Gets the label for the CSV export of the next dates.
+   *
+   * @return the CSV export label
+   */
+  public String getExportCsvLabel() {
+    return exportCsvLabel;
+  }
+
+  /**
+   * Sets the label for the CSV export of the next dates.
+   *
+   * @param exportCsvLabel the label to set
+   * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
+   */
+  public CronExpressionFieldI18n setExportCsvLabel(String exportCsvLabel) {
+    beforeChange();
+    this.exportCsvLabel = exportCsvLabel;
+    return this;
+  }
+
+  /**
+   * Gets the label for the iCalendar export of the next dates.
+   *
+   * @return the iCalendar export label
+   */
+  public String getExportICalendarLabel() {
+    return exportICalendarLabel;
+  }
+
+  /**
+   * Sets the label for the iCalendar export of the next dates.
+   *
+   * @param exportICalendarLabel the label to set
+   * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
+   */
+  public CronExpressionFieldI18n setExportICalendarLabel(String exportICalendarLabel) {
+    beforeChange();
+    this.exportICalendarLabel = exportICalendarLabel;
+    return this;
+  }
+
   /**
    * Gets the tooltip for the time amount input.
    *
@@ -349,8 +656,10 @@ public class CronExpressionFieldI18n implements Serializable {
    *
    * @param timeAmountTooltip the tooltip text
    * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
    */
   public CronExpressionFieldI18n setTimeAmountTooltip(String timeAmountTooltip) {
+    beforeChange();
     this.timeAmountTooltip = timeAmountTooltip;
     return this;
   }
@@ -369,8 +678,10 @@ public class CronExpressionFieldI18n implements Serializable {
    *
    * @param daySelectorTooltip the tooltip text
    * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
    */
   public CronExpressionFieldI18n setDaySelectorTooltip(String daySelectorTooltip) {
+    beforeChange();
     this.daySelectorTooltip = daySelectorTooltip;
     return this;
   }
@@ -389,8 +700,10 @@ public class CronExpressionFieldI18n implements Serializable {
    *
    * @param startsAtTooltip the tooltip text
    * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
    */
   public CronExpressionFieldI18n setStartsAtTooltip(String startsAtTooltip) {
+    beforeChange();
     this.startsAtTooltip = startsAtTooltip;
     return this;
   }
@@ -409,8 +722,10 @@ public class CronExpressionFieldI18n implements Serializable {
    *
    * @param dayOfMonthTooltip the tooltip text
    * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
    */
   public CronExpressionFieldI18n setDayOfMonthTooltip(String dayOfMonthTooltip) {
+    beforeChange();
     this.dayOfMonthTooltip = dayOfMonthTooltip;
     return this;
   }
@@ -429,8 +744,10 @@ public class CronExpressionFieldI18n implements Serializable {
    *
    * @param monthFieldTooltip the tooltip text
    * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
    */
   public CronExpressionFieldI18n setMonthFieldTooltip(String monthFieldTooltip) {
+    beforeChange();
     this.monthFieldTooltip = monthFieldTooltip;
     return this;
   }
@@ -449,8 +766,10 @@ public class CronExpressionFieldI18n implements Serializable {
    *
    * @param inputExpressionTooltip the tooltip text
    * @return this instance for method chaining
+   * @throws UnsupportedOperationException if this instance is shared
    */
   public CronExpressionFieldI18n setInputExpressionTooltip(String inputExpressionTooltip) {
+    beforeChange();
     this.inputExpressionTooltip = inputExpressionTooltip;
     return this;
   }
@@ -0,0 +1,85 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+/**
+ * Instrumentation hooks of the hot paths of {@link CronExpressionField}, registered with
+ * {@link CronExpressionField#setMetrics(CronExpressionFieldMetrics)}.
+ *
+ * <p>
+ * All the methods have empty default implementations, and {@link #NOOP} does not even read the clock, so that the hooks
+ * cost nothing when instrumentation is disabled. Every measurement is tagged with the layout displayed by the field.
+ * Implementations must be thread-safe, since the next dates are computed in background threads.
+ *
+ * @see MicrometerCronExpressionFieldMetrics
+ */
+public interface CronExpressionFieldMetrics {
+
+  /** The instrumentation that records nothing, which is used by default. */
+  CronExpressionFieldMetrics NOOP = new CronExpressionFieldMetrics() {};
+
+  /** The operations whose duration is measured. */
+  enum Operation {
+    /** Parsing and validating the expression. */
+    VALIDATION,
+    /** Rendering the human-readable description of the expression. */
+    DESCRIPTION,
+    /** Computing a page of the next dates. */
+    NEXT_DATES_PAGE,
+    /** Displaying the selected layout. */
+    LAYOUT;
+  }
+
+  /**
+   * Returns the start time of an operation, which is passed to
+   * {@link #stop(Operation, LayoutOptions, long)} when the operation completes.
+   *
+   * @return the start time in nanoseconds, or {@code 0} if durations are not recorded
+   */
+  default long start() {
+    return 0L;
+  }
+
+  /**
+   * Records the duration of an operation.
+   *
+   * @param operation the operation that completed
+   * @param layout the layout displayed by the field
+   * @param start the value returned by {@link #start()} when the operation started
+   */
+  default void stop(Operation operation, LayoutOptions layout, long start) {}
+
+  /**
+   * Records an expression that could not be parsed, or that never fires.
+   *
+   * @param layout the layout displayed by the field
+   */
+  default void parseFailure(LayoutOptions layout) {}
+
+  /**
+   * Records a lookup of an expression in the {@link CronExpressionCache}.
+   *
+   * @param layout the layout displayed by the field
+   * @param hit {@code true} if the expression was already cached, {@code false} if it had to be parsed
+   */
+  default void cacheLookup(LayoutOptions layout, boolean hit) {}
+
+}
@@ -0,0 +1,134 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import com.vaadin.flow.i18n.I18NProvider;
+import com.vaadin.flow.server.VaadinService;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+/**
+ * Resolves the messages of a {@link CronExpressionFieldI18n} for a locale. Each message is looked up in the
+ * {@link I18NProvider} of the application, so that applications can override it, and then in the resource bundle of
+ * the add-on. The keys are the names of the properties of {@link CronExpressionFieldI18n} prefixed with
+ * {@value #KEY_PREFIX}, such as {@code fc-cron-expression-field.clearBtn} or
+ * {@code fc-cron-expression-field.layoutOptions.DAILY}.
+ */
+final class CronExpressionFieldTranslations {
+
+  static final String KEY_PREFIX = "fc-cron-expression-field.";
+
+  private static final String BUNDLE_NAME = "com.flowingcode.vaadin.addons.cronexpressionfield.messages";
+
+  private final Locale locale;
+
+  private final I18NProvider provider;
+
+  private final ResourceBundle bundle;
+
+  private boolean translated;
+
+  private CronExpressionFieldTranslations(Locale locale, I18NProvider provider) {
+    this.locale = locale;
+    this.provider = provider;
+    bundle = ResourceBundle.getBundle(BUNDLE_NAME, locale, CronExpressionFieldTranslations.class.getClassLoader(),
+        ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES));
+    translated = !bundle.getLocale().equals(Locale.ROOT);
+  }
+
+  /**
+   * Returns the {@link I18NProvider} of the current {@link VaadinService}.
+   *
+   * @return the provider, or {@code null} if there is no current service or it has no provider
+   */
+  static I18NProvider getCurrentProvider() {
+    VaadinService service = VaadinService.getCurrent();
+    return service != null ? service.getInstantiator().getI18NProvider() : null;
+  }
+
+  /**
+   * Returns the messages of the given locale.
+   *
+   * @param provider the provider of the application, or {@code null} to use only the resource bundle of the add-on
+   * @return the translated messages, or {@code null} if neither the application nor the add-on translate any message
+   *         to the locale, in which case the default messages apply
+   */
+  static CronExpressionFieldI18n translate(Locale locale, I18NProvider provider) {
+    CronExpressionFieldTranslations translations = new CronExpressionFieldTranslations(locale, provider);
+    CronExpressionFieldI18n i18n = CronExpressionFieldI18n.createDefault();
+
+    Map<LayoutOptions, String> layoutOptions = i18n.getLayoutOptions();
+    for (LayoutOptions option : LayoutOptions.values()) {
+      layoutOptions.put(option, translations.get("layoutOptions." + option.name(), layoutOptions.get(option)));
+    }
+    Map<CronExpressionField.Units, String> units = new HashMap<>(i18n.getUnits());
+    for (CronExpressionField.Units unit : CronExpressionField.Units.values()) {
+      units.put(unit, translations.get("units." + unit.name(), units.get(unit)));
+    }
+
+    i18n.setLayoutOptions(layoutOptions)
+        .setUnits(units)
+        .setCronExpressionLabel(translations.get("cronExpressionLabel", i18n.getCronExpressionLabel()))
+        .setClearBtn(translations.get("clearBtn", i18n.getClearBtn()))
+        .setStartsAtLabel(translations.get("startsAtLabel", i18n.getStartsAtLabel()))
+        .setDescriptionLabel(translations.get("descriptionLabel", i18n.getDescriptionLabel()))
+        .setDescriptionPlaceholder(translations.get("descriptionPlaceholder", i18n.getDescriptionPlaceholder()))
+        .setNeverFiresMessage(translations.get("neverFiresMessage", i18n.getNeverFiresMessage()))
+        .setIntervalLabel(translations.get("intervalLabel", i18n.getIntervalLabel()))
+        .setDayOfMonthLabel(translations.get("dayOfMonthLabel", i18n.getDayOfMonthLabel()))
+        .setRepeatEveryLabel(translations.get("repeatEveryLabel", i18n.getRepeatEveryLabel()))
+        .setMonth(translations.get("month", i18n.getMonth()))
+        .setShowNextDatesBtn(translations.get("showNextDatesBtn", i18n.getShowNextDatesBtn()))
+        .setCommonExpressionsLabel(translations.get("commonExpressionsLabel", i18n.getCommonExpressionsLabel()))
+        .setLoadPreviewLabel(translations.get("loadPreviewLabel", i18n.getLoadPreviewLabel()))
+        .setExportCsvLabel(translations.get("exportCsvLabel", i18n.getExportCsvLabel()))
+        .setExportICalendarLabel(translations.get("exportICalendarLabel", i18n.getExportICalendarLabel()))
+        .setTimeAmountTooltip(translations.get("timeAmountTooltip", i18n.getTimeAmountTooltip()))
+        .setDaySelectorTooltip(translations.get("daySelectorTooltip", i18n.getDaySelectorTooltip()))
+        .setStartsAtTooltip(translations.get("startsAtTooltip", i18n.getStartsAtTooltip()))
+        .setDayOfMonthTooltip(translations.get("dayOfMonthTooltip", i18n.getDayOfMonthTooltip()))
+        .setMonthFieldTooltip(translations.get("monthFieldTooltip", i18n.getMonthFieldTooltip()))
+        .setInputExpressionTooltip(translations.get("inputExpressionTooltip", i18n.getInputExpressionTooltip()));
+
+    return translations.translated ? i18n : null;
+  }
+
+  private String get(String property, String defaultValue) {
+    String key = KEY_PREFIX + property;
+    if (provider != null) {
+      try {
+        String value = provider.getTranslation(key, locale);
+        // providers usually return the key, decorated or not, when there is no translation
+        if (value != null && !value.isEmpty() && !value.contains(key)) {
+          translated = true;
+          return value;
+        }
+      } catch (MissingResourceException e) {
+        // not provided by the application
+      }
+    }
+    return bundle.containsKey(key) ? bundle.getString(key) : defaultValue;
+  }
+
+}
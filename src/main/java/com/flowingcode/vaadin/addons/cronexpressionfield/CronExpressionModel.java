@@ -0,0 +1,197 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.io.Serializable;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Set;
+
+/**
+ * Mutable, field-indexed representation of a cron expression.
+ *
+ * <p>
+ * Setters patch a single field and validate only that field. The expression string is rendered lazily, when
+ * {@link #getExpression()} is called after a change.
+ */
+final class CronExpressionModel implements Serializable {
+
+  private static final String[] NUMBERS = new String[60];
+
+  private static final String[] STEPS = new String[60];
+
+  private static final String[] MONTH_STEPS = new String[12];
+
+  static {
+    for (int i = 0; i < NUMBERS.length; i++) {
+      NUMBERS[i] = String.valueOf(i);
+      STEPS[i] = "*/" + i;
+    }
+    for (int i = 0; i < MONTH_STEPS.length; i++) {
+      MONTH_STEPS[i] = "1/" + i;
+    }
+  }
+
+  private final String[] fields = new String[CronFieldType.values().length];
+
+  private String expression;
+
+  /**
+   * Creates a new model initialized from the given expression.
+   *
+   * @throws IllegalArgumentException if the expression does not have six fields
+   */
+  CronExpressionModel(String expression) {
+    if (!setExpression(expression)) {
+      throw new IllegalArgumentException("Invalid cron expression: " + expression);
+    }
+  }
+
+  /**
+   * Replaces all the fields with the ones of the given expression. Individual fields are not validated.
+   *
+   * @return {@code false} if the expression does not have six fields, in which case the model is not modified
+   */
+  boolean setExpression(String expression) {
+    if (expression == null) {
+      return false;
+    }
+    String[] split = expression.trim().split("\\s+");
+    if (split.length != fields.length) {
+      return false;
+    }
+    System.arraycopy(split, 0, fields, 0, fields.length);
+    this.expression = String.join(" ", fields);
+    return true;
+  }
+
+  /** Returns the expression string, rendering it if any field changed since the last call. */
+  String getExpression() {
+    if (expression == null) {
+      StringBuilder sb = new StringBuilder(32);
+      for (int i = 0; i < fields.length; i++) {
+        if (i > 0) {
+          sb.append(' ');
+        }
+        sb.append(fields[i]);
+      }
+      expression = sb.toString();
+    }
+    return expression;
+  }
+
+  /** Returns the current value of a field. */
+  String getField(CronFieldType type) {
+    return fields[type.index()];
+  }
+
+  /**
+   * Sets the value of a field, after validating it.
+   *
+   * @return {@code false} if the value is not valid for the field, in which case the model is not modified
+   */
+  boolean setField(CronFieldType type, String value) {
+    int index = type.index();
+    if (value.equals(fields[index])) {
+      return true;
+    }
+    if (!type.isValid(value)) {
+      return false;
+    }
+    fields[index] = value;
+    expression = null;
+    return true;
+  }
+
+  boolean setSecond(int second) {
+    return setNumber(CronFieldType.SECOND, second);
+  }
+
+  boolean setMinute(int minute) {
+    return setNumber(CronFieldType.MINUTE, minute);
+  }
+
+  boolean setHour(int hour) {
+    return setNumber(CronFieldType.HOUR, hour);
+  }
+
+  /** Sets the second, minute and hour fields. */
+  boolean setTime(LocalTime time) {
+    return setSecond(time.getSecond()) & setMinute(time.getMinute()) & setHour(time.getHour());
+  }
+
+  boolean setDayOfMonth(int dayOfMonth) {
+    return setNumber(CronFieldType.DAY_OF_MONTH, dayOfMonth);
+  }
+
+  /** Sets the month field so that it repeats every {@code step} months, starting in January. */
+  boolean setMonthInterval(int step) {
+    if (step <= 0 || step >= MONTH_STEPS.length) {
+      return false;
+    }
+    return setField(CronFieldType.MONTH, MONTH_STEPS[step]);
+  }
+
+  /** Sets the day-of-week field to the given days, or to {@code *} if none or all of them are given. */
+  boolean setDaysOfWeek(Set<DayOfWeek> days) {
+    if (days.isEmpty() || days.size() == 7) {
+      return setAny(CronFieldType.DAY_OF_WEEK);
+    }
+    StringBuilder sb = new StringBuilder(13);
+    for (DayOfWeek day : days) {
+      if (sb.length() > 0) {
+        sb.append(',');
+      }
+      sb.append(day.getValue());
+    }
+    return setField(CronFieldType.DAY_OF_WEEK, sb.toString());
+  }
+
+  /** Sets a field to {@code *}. */
+  boolean setAny(CronFieldType type) {
+    return setField(type, "*");
+  }
+
+  /** Sets a day field to {@code ?}. */
+  boolean setNoSpecificValue(CronFieldType type) {
+    return setField(type, "?");
+  }
+
+  /** Sets a field so that it repeats every {@code step} units. */
+  boolean setEvery(CronFieldType type, int step) {
+    if (step < 0 || step >= STEPS.length) {
+      return false;
+    }
+    return setField(type, STEPS[step]);
+  }
+
+  private boolean setNumber(CronFieldType type, int value) {
+    if (value < type.getMin() || value > type.getMax() || value >= NUMBERS.length) {
+      return false;
+    }
+    return setField(type, NUMBERS[value]);
+  }
+
+  @Override
+  public String toString() {
+    return getExpression();
+  }
+
+}
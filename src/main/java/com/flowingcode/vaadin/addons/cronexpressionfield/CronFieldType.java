@@ -0,0 +1,181 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.util.Locale;
+
+/**
+ * The six fields of a cron expression, in the order they appear in the expression. Each constant knows how to parse a
+ * field value into a bitmask where bit {@code i} is set if the value {@code i} is matched.
+ */
+enum CronFieldType {
+  SECOND(0, 59), MINUTE(0, 59), HOUR(0, 23), DAY_OF_MONTH(1, 31),
+  MONTH(1, 12, "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"),
+  DAY_OF_WEEK(0, 7, "MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN");
+
+  private final int min;
+  private final int max;
+  private final String[] names;
+
+  private CronFieldType(int min, int max, String... names) {
+    this.min = min;
+    this.max = max;
+    this.names = names;
+  }
+
+  /** Returns the position of this field in a cron expression. */
+  int index() {
+    return ordinal();
+  }
+
+  /** Returns the minimum value accepted by this field. */
+  int getMin() {
+    return min;
+  }
+
+  /** Returns the maximum value accepted by this field. */
+  int getMax() {
+    return max;
+  }
+
+  /** Returns whether {@code value} is a valid value for this field. */
+  boolean isValid(String value) {
+    try {
+      parse(value);
+      return true;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Parses a field value into a bitmask.
+   *
+   * <p>
+   * Supports {@code *}, single values, ranges ({@code a-b}), steps (<code>&#42;/n</code>, {@code a/n},
+   * {@code a-b/n}), lists and month and day names. {@code ?} is accepted in the day fields. Both {@code 0} and
+   * {@code 7} stand for Sunday in the day-of-week field, which is normalized to bit {@code 7}. The Quartz-style
+   * {@code L}, {@code W} and {@code #} specifiers are not supported.
+   *
+   * @throws IllegalArgumentException if the value cannot be parsed
+   */
+  long parse(String value) {
+    if (value == null || value.isEmpty()) {
+      throw new IllegalArgumentException("Empty " + this + " field");
+    }
+    if (value.equals("?") && (this == DAY_OF_MONTH || this == DAY_OF_WEEK)) {
+      value = "*";
+    }
+    if (names.length > 0) {
+      value = replaceNames(value);
+    }
+    long bits = 0;
+    int start = 0;
+    while (start <= value.length()) {
+      int end = value.indexOf(',', start);
+      if (end < 0) {
+        end = value.length();
+      }
+      bits |= parseRange(value, start, end);
+      start = end + 1;
+    }
+    if (this == DAY_OF_WEEK && (bits & 1) != 0) {
+      bits = (bits & ~1L) | (1L << 7);
+    }
+    return bits;
+  }
+
+  private long parseRange(String value, int start, int end) {
+    int slash = value.indexOf('/', start);
+    if (slash >= end) {
+      slash = -1;
+    }
+    int rangeEnd = slash < 0 ? end : slash;
+    int from;
+    int to;
+    if (rangeEnd - start == 1 && value.charAt(start) == '*') {
+      from = this == DAY_OF_WEEK ? 1 : min;
+      to = max;
+    } else {
+      int dash = value.indexOf('-', start);
+      if (dash < 0 || dash >= rangeEnd) {
+        from = parseValue(value, start, rangeEnd);
+        to = slash < 0 ? from : max;
+      } else {
+        from = parseValue(value, start, dash);
+        to = parseValue(value, dash + 1, rangeEnd);
+        if (from > to) {
+          throw new IllegalArgumentException("Invalid range in " + this + " field: " + value);
+        }
+      }
+    }
+    int step = 1;
+    if (slash >= 0) {
+      step = parseNumber(value, slash + 1, end);
+      if (step <= 0) {
+        throw new IllegalArgumentException("Invalid step in " + this + " field: " + value);
+      }
+    }
+    long bits = 0;
+    for (int i = from; i <= to; i += step) {
+      bits |= 1L << i;
+    }
+    return bits;
+  }
+
+  private int parseValue(String value, int start, int end) {
+    int result = parseNumber(value, start, end);
+    if (result < min || result > max) {
+      throw new IllegalArgumentException("Value out of range in " + this + " field: " + value);
+    }
+    return result;
+  }
+
+  private int parseNumber(String value, int start, int end) {
+    if (start >= end || end - start > 9) {
+      throw new IllegalArgumentException("Invalid " + this + " field: " + value);
+    }
+    int result = 0;
+    for (int i = start; i < end; i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        throw new IllegalArgumentException("Invalid " + this + " field: " + value);
+      }
+      result = result * 10 + (c - '0');
+    }
+    return result;
+  }
+
+  private String replaceNames(String value) {
+    boolean hasLetters = false;
+    for (int i = 0; i < value.length() && !hasLetters; i++) {
+      hasLetters = Character.isLetter(value.charAt(i));
+    }
+    if (!hasLetters) {
+      return value;
+    }
+    value = value.toUpperCase(Locale.ROOT);
+    for (int i = 0; i < names.length; i++) {
+      value = value.replace(names[i], Integer.toString(i + 1));
+    }
+    return value;
+  }
+
+}
@@ -0,0 +1,72 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/** An occurrence of a cron expression, as returned by {@link CronOccurrences#merge(java.util.Collection, LocalDateTime)}. */
+@SuppressWarnings("serial")
+public final class CronOccurrence implements Serializable {
+
+  private final String expression;
+
+  private final LocalDateTime date;
+
+  CronOccurrence(String expression, LocalDateTime date) {
+    this.expression = expression;
+    this.date = date;
+  }
+
+  /**
+   * Returns the expression that fires at this occurrence.
+   *
+   * @return the cron expression
+   */
+  public String getExpression() {
+    return expression;
+  }
+
+  /**
+   * Returns the date and time of this occurrence.
+   *
+   * @return the date and time
+   */
+  public LocalDateTime getDate() {
+    return date;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof CronOccurrence other && expression.equals(other.expression) && date.equals(other.date);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(expression, date);
+  }
+
+  @Override
+  public String toString() {
+    return date + " (" + expression + ")";
+  }
+
+}
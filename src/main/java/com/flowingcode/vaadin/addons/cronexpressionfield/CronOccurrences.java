@@ -0,0 +1,188 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy streams of the occurrences of cron expressions.
+ *
+ * <p>
+ * Occurrences are computed on demand, with the compiled expression when available, so that taking the first elements
+ * of a stream only computes those elements.
+ */
+public final class CronOccurrences {
+
+  private CronOccurrences() {}
+
+  /**
+   * Returns the occurrences of an expression strictly after the given date and time, in time order.
+   *
+   * @param expression the cron expression
+   * @param from the date and time after which the occurrences are computed
+   * @return a lazy stream of occurrences
+   * @throws IllegalArgumentException if the expression is not valid
+   */
+  public static Stream<LocalDateTime> stream(String expression, LocalDateTime from) {
+    CronExpressionCache.Entry entry = lookup(expression);
+    Objects.requireNonNull(from, "from must not be null");
+    return Stream.iterate(entry.next(from), Objects::nonNull, entry::next);
+  }
+
+  /**
+   * Returns the occurrences of several expressions strictly after the given date and time, merged in time order.
+   * Occurrences at the same date and time are returned in the iteration order of {@code expressions}.
+   *
+   * <p>
+   * The occurrences are merged with a priority queue holding the next occurrence of each expression, so that taking the
+   * first {@code k} occurrences of {@code n} expressions costs {@code O(n + k log n)}.
+   *
+   * @param expressions the cron expressions
+   * @param from the date and time after which the occurrences are computed
+   * @return a lazy stream of occurrences
+   * @throws IllegalArgumentException if any of the expressions is not valid
+   */
+  public static Stream<CronOccurrence> merge(Collection<String> expressions, LocalDateTime from) {
+    Objects.requireNonNull(from, "from must not be null");
+    List<CronExpressionCache.Entry> entries = new ArrayList<>(expressions.size());
+    for (String expression : expressions) {
+      entries.add(lookup(expression));
+    }
+    return mergeEntries(entries, from);
+  }
+
+  /** Merges the occurrences of the given valid entries, like {@link #merge(Collection, LocalDateTime)}. */
+  static Stream<CronOccurrence> mergeEntries(List<CronExpressionCache.Entry> entries, LocalDateTime from) {
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(new MergingIterator(entries, from),
+            Spliterator.ORDERED | Spliterator.NONNULL),
+        false);
+  }
+
+  /**
+   * Returns the number of occurrences of an expression from {@code from}, inclusive, to {@code to}, exclusive.
+   *
+   * <p>
+   * Compiled expressions are counted in closed form with {@link CompiledCronExpression#count(LocalDateTime,
+   * LocalDateTime)}, so that the cost does not depend on the number of occurrences or the length of the range.
+   * Expressions that cannot be compiled are counted by computing their occurrences.
+   *
+   * @param expression the cron expression
+   * @param from the start of the range, inclusive
+   * @param to the end of the range, exclusive
+   * @return the number of occurrences, or zero if {@code to} is not after {@code from}
+   * @throws IllegalArgumentException if the expression is not valid
+   */
+  public static long count(String expression, LocalDateTime from, LocalDateTime to) {
+    CronExpressionCache.Entry entry = lookup(expression);
+    Objects.requireNonNull(from, "from must not be null");
+    Objects.requireNonNull(to, "to must not be null");
+    if (entry.getCompiledExpression() != null) {
+      return entry.getCompiledExpression().count(from, to);
+    }
+    long count = 0;
+    for (LocalDateTime date = entry.next(from.minusNanos(1)); date != null && date.isBefore(to);
+        date = entry.next(date)) {
+      if (!date.isBefore(from)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static CronExpressionCache.Entry lookup(String expression) {
+    Objects.requireNonNull(expression, "expression must not be null");
+    CronExpressionCache.Entry entry = CronExpressionCache.lookup(expression);
+    if (!entry.isValid()) {
+      throw new IllegalArgumentException("Invalid cron expression: " + expression);
+    }
+    return entry;
+  }
+
+  /** The next occurrence of one of the merged expressions. */
+  private static final class Head implements Comparable<Head> {
+
+    private final CronExpressionCache.Entry entry;
+
+    private final int order;
+
+    private LocalDateTime next;
+
+    private Head(CronExpressionCache.Entry entry, int order, LocalDateTime next) {
+      this.entry = entry;
+      this.order = order;
+      this.next = next;
+    }
+
+    @Override
+    public int compareTo(Head other) {
+      int result = next.compareTo(other.next);
+      return result != 0 ? result : Integer.compare(order, other.order);
+    }
+  }
+
+  private static final class MergingIterator implements Iterator<CronOccurrence> {
+
+    private final PriorityQueue<Head> queue;
+
+    private MergingIterator(List<CronExpressionCache.Entry> entries, LocalDateTime from) {
+      List<Head> heads = new ArrayList<>(entries.size());
+      for (int i = 0; i < entries.size(); i++) {
+        LocalDateTime next = entries.get(i).next(from);
+        if (next != null) {
+          heads.add(new Head(entries.get(i), i, next));
+        }
+      }
+      // the heap is built in linear time from the first occurrences
+      queue = new PriorityQueue<>(heads);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !queue.isEmpty();
+    }
+
+    @Override
+    public CronOccurrence next() {
+      Head head = queue.poll();
+      if (head == null) {
+        throw new NoSuchElementException();
+      }
+      CronOccurrence occurrence = new CronOccurrence(head.entry.getExpression(), head.next);
+      head.next = head.entry.next(head.next);
+      if (head.next != null) {
+        queue.add(head);
+      }
+      return occurrence;
+    }
+  }
+
+}
@@ -0,0 +1,177 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Exports the occurrences of a cron expression as CSV or iCalendar.
+ *
+ * <p>
+ * The occurrences are written while they are computed by {@link CronOccurrences#stream(String, LocalDateTime)}, so
+ * exporting any number of occurrences uses constant memory. Dates and times are written without a time zone, like the
+ * occurrences themselves.
+ */
+public final class CronOccurrencesExport {
+
+  /** iCalendar weekdays, indexed by ISO day of the week. */
+  private static final String[] WEEKDAYS = {null, "MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+
+  private static final DateTimeFormatter ICALENDAR_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+  /** Maximum length in octets of an iCalendar line, after which it is folded. */
+  private static final int ICALENDAR_LINE_LENGTH = 75;
+
+  private CronOccurrencesExport() {}
+
+  /**
+   * Writes the occurrences of an expression as CSV, with an {@code occurrence} header and one ISO-8601 date and time
+   * per line.
+   *
+   * @param expression the cron expression
+   * @param from the date and time after which the occurrences are computed
+   * @param limit the maximum number of occurrences to write
+   * @param writer the destination of the CSV, which is flushed but not closed
+   * @throws IOException if writing fails
+   * @throws IllegalArgumentException if the expression is not valid
+   */
+  public static void writeCsv(String expression, LocalDateTime from, long limit, Writer writer) throws IOException {
+    Iterator<LocalDateTime> occurrences = CronOccurrences.stream(expression, from).limit(limit).iterator();
+    writer.write("occurrence\r\n");
+    while (occurrences.hasNext()) {
+      writer.write(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(occurrences.next()));
+      writer.write("\r\n");
+    }
+    writer.flush();
+  }
+
+  /**
+   * Writes the occurrences of an expression as an iCalendar (RFC 5545) calendar. Expressions that can be compiled are
+   * written as a single recurring event, with a recurrence rule derived from the expression. Other expressions are
+   * written as one event per occurrence.
+   *
+   * @param expression the cron expression
+   * @param from the date and time after which the occurrences are computed
+   * @param limit the maximum number of occurrences to write
+   * @param writer the destination of the calendar, which is flushed but not closed
+   * @throws IOException if writing fails
+   * @throws IllegalArgumentException if the expression is not valid
+   */
+  public static void writeICalendar(String expression, LocalDateTime from, long limit, Writer writer)
+      throws IOException {
+    Objects.requireNonNull(expression, "expression must not be null");
+    Iterator<LocalDateTime> occurrences = CronOccurrences.stream(expression, from).limit(limit).iterator();
+    CompiledCronExpression compiled = CronExpressionCache.lookup(expression).getCompiledExpression();
+    String stamp = ICALENDAR_DATE_TIME.format(LocalDateTime.now(ZoneOffset.UTC)) + "Z";
+    String uid = Integer.toHexString(expression.hashCode());
+
+    writeLine(writer, "BEGIN:VCALENDAR");
+    writeLine(writer, "VERSION:2.0");
+    writeLine(writer, "PRODID:-//Flowing Code//Cron Expression Field//EN");
+    if (compiled != null && occurrences.hasNext()) {
+      LocalDateTime start = occurrences.next();
+      writeEvent(writer, uid, stamp, expression, start, toRecurrenceRule(compiled) + ";COUNT=" + limit);
+    } else {
+      for (long i = 0; occurrences.hasNext(); i++) {
+        writeEvent(writer, uid + "-" + i, stamp, expression, occurrences.next(), null);
+      }
+    }
+    writeLine(writer, "END:VCALENDAR");
+    writer.flush();
+  }
+
+  private static void writeEvent(Writer writer, String uid, String stamp, String expression, LocalDateTime start,
+      String rule) throws IOException {
+    writeLine(writer, "BEGIN:VEVENT");
+    writeLine(writer, "UID:" + uid + "-" + ICALENDAR_DATE_TIME.format(start) + "@fc-cron-expression-field");
+    writeLine(writer, "DTSTAMP:" + stamp);
+    writeLine(writer, "DTSTART:" + ICALENDAR_DATE_TIME.format(start));
+    if (rule != null) {
+      writeLine(writer, "RRULE:" + rule);
+    }
+    writeLine(writer, "SUMMARY:" + escape(expression));
+    writeLine(writer, "END:VEVENT");
+  }
+
+  /**
+   * Returns the recurrence rule, without {@code COUNT}, of a compiled expression. The rule repeats daily at the times of
+   * the hour, minute and second fields, and its month, day-of-month and day-of-week parts restrict the days, so that
+   * both day fields must match, like in the expression.
+   */
+  static String toRecurrenceRule(CompiledCronExpression compiled) {
+    StringBuilder rule = new StringBuilder("FREQ=DAILY");
+    if (compiled.getMonths() != 0x1FFE) {
+      appendPart(rule, "BYMONTH", compiled.getMonths());
+    }
+    if (compiled.getDaysOfMonth() != 0xFFFFFFFE) {
+      appendPart(rule, "BYMONTHDAY", compiled.getDaysOfMonth() & 0xFFFFFFFFL);
+    }
+    int daysOfWeek = compiled.getDaysOfWeek();
+    if (daysOfWeek != 0xFE) {
+      rule.append(";BYDAY=");
+      for (int day = 1; day <= 7; day++) {
+        if ((daysOfWeek & (1 << day)) != 0) {
+          rule.append(WEEKDAYS[day]).append(',');
+        }
+      }
+      rule.setLength(rule.length() - 1);
+    }
+    appendPart(rule, "BYHOUR", compiled.getHours());
+    appendPart(rule, "BYMINUTE", compiled.getMinutes());
+    appendPart(rule, "BYSECOND", compiled.getSeconds());
+    return rule.toString();
+  }
+
+  private static void appendPart(StringBuilder rule, String name, long mask) {
+    rule.append(';').append(name).append('=');
+    for (long bits = mask; bits != 0; bits &= bits - 1) {
+      rule.append(Long.numberOfTrailingZeros(bits)).append(',');
+    }
+    rule.setLength(rule.length() - 1);
+  }
+
+  /** Escapes a TEXT value. */
+  private static String escape(String text) {
+    return text.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,").replace("\n", "\\n");
+  }
+
+  /** Writes a content line, folding it every 75 octets. The content lines of the export are ASCII. */
+  private static void writeLine(Writer writer, String line) throws IOException {
+    int start = 0;
+    int length = ICALENDAR_LINE_LENGTH;
+    while (line.length() - start > length) {
+      writer.write(line, start, length);
+      writer.write("\r\n ");
+      start += length;
+      // the leading space of a continuation line counts towards its length
+      length = ICALENDAR_LINE_LENGTH - 1;
+    }
+    writer.write(line, start, line.length() - start);
+    writer.write("\r\n");
+  }
+
+}
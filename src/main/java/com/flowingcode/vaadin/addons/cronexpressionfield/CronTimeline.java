@@ -0,0 +1,170 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.time.LocalDateTime;
+import java.time.format.FormatStyle;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+import com.vaadin.flow.component.Composite;
+import com.vaadin.flow.component.HasSize;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.grid.GridVariant;
+
+/**
+ * Grid that displays the next occurrences of several cron expressions, merged in time order.
+ *
+ * <p>
+ * Like the next dates of {@link CronExpressionField}, the occurrences are computed from the date and time at which the
+ * expressions were set, until {@link #refresh()} is called. Occurrences are computed page by page as the grid is
+ * scrolled, so that the first page of a timeline with many expressions does not compute the occurrences of the
+ * following pages. Only checkpoints of the merge and the most recently displayed pages are kept, so that scrolling deep
+ * into the timeline does not retain the occurrences scrolled through.
+ */
+@SuppressWarnings("serial")
+public class CronTimeline extends Composite<Grid<CronOccurrence>> implements HasSize {
+
+  private List<String> expressions = List.of();
+  /** The parsed expressions, which are kept so that the occurrences and descriptions do not parse them again. */
+  private transient Map<String, CronExpressionCache.Entry> entries;
+  private Locale locale;
+  private LocalDateTime anchor = LocalDateTime.now();
+  private transient MergedOccurrenceIndex index;
+
+  /** Creates a new instance of {@code CronTimeline} without expressions. */
+  public CronTimeline() {}
+
+  /**
+   * Creates a new instance of {@code CronTimeline} with the given expressions.
+   *
+   * @param expressions the cron expressions to be displayed
+   * @throws IllegalArgumentException if any of the expressions is not valid
+   */
+  public CronTimeline(Collection<String> expressions) {
+    setExpressions(expressions);
+  }
+
+  @Override
+  protected Grid<CronOccurrence> initContent() {
+    Grid<CronOccurrence> grid = new Grid<>();
+    grid.addClassName("fc-cron-timeline");
+    grid.addThemeVariants(GridVariant.LUMO_COMPACT);
+    grid.addColumn(occurrence -> formatDate(occurrence.getDate())).setAutoWidth(true);
+    grid.addColumn(CronOccurrence::getExpression).setAutoWidth(true);
+    grid.addColumn(occurrence -> getEntries().get(occurrence.getExpression()).getDescription(getFormatLocale()))
+        .setFlexGrow(1);
+    grid.setItems(query -> fetch(query.getOffset(), query.getLimit()));
+    return grid;
+  }
+
+  /**
+   * Sets the expressions whose occurrences are displayed, and computes their occurrences from the current date and
+   * time. Duplicate expressions are displayed once, so that each occurrence is a distinct item of the grid.
+   *
+   * @param expressions the cron expressions to be displayed
+   * @throws IllegalArgumentException if any of the expressions is not valid, in which case the displayed expressions are
+   *         not modified
+   */
+  public void setExpressions(Collection<String> expressions) {
+    List<String> list = List.copyOf(new LinkedHashSet<>(expressions));
+    Map<String, CronExpressionCache.Entry> parsed = parse(list);
+    parsed.values().stream().filter(entry -> !entry.isValid()).findFirst().ifPresent(entry -> {
+      throw new IllegalArgumentException("Invalid cron expression: " + entry.getExpression());
+    });
+    this.expressions = list;
+    entries = parsed;
+    refresh();
+  }
+
+  /** Looks up each distinct expression once, without adding it to the shared {@link CronExpressionCache}. */
+  private static Map<String, CronExpressionCache.Entry> parse(List<String> expressions) {
+    Map<String, CronExpressionCache.Entry> parsed = new LinkedHashMap<>();
+    for (String expression : expressions) {
+      parsed.computeIfAbsent(expression, CronExpressionCache::lookup);
+    }
+    return parsed;
+  }
+
+  /** Returns the parsed expressions, parsing them again after deserialization. */
+  private Map<String, CronExpressionCache.Entry> getEntries() {
+    if (entries == null) {
+      entries = parse(expressions);
+    }
+    return entries;
+  }
+
+  /**
+   * Returns the expressions whose occurrences are displayed.
+   *
+   * @return an unmodifiable list of distinct cron expressions
+   */
+  public List<String> getExpressions() {
+    return expressions;
+  }
+
+  /** Recomputes the occurrences from the current date and time. */
+  public void refresh() {
+    anchor = LocalDateTime.now();
+    index = null;
+    getContent().getDataProvider().refreshAll();
+  }
+
+  /**
+   * Returns the date and time from which the occurrences are computed.
+   *
+   * @return the anchor of the occurrences
+   */
+  public LocalDateTime getAnchor() {
+    return anchor;
+  }
+
+  /**
+   * Sets the {@link Locale} of the dates and descriptions.
+   *
+   * @param locale the {@link Locale} to be used, or {@code null} for English
+   */
+  public void setLocale(Locale locale) {
+    this.locale = locale;
+    getContent().getDataProvider().refreshAll();
+  }
+
+  private Locale getFormatLocale() {
+    return locale == null ? Locale.ENGLISH : locale;
+  }
+
+  private String formatDate(LocalDateTime date) {
+    return date.format(DateTimeFormatters.get(getFormatLocale(), FormatStyle.LONG, FormatStyle.MEDIUM));
+  }
+
+  /** Returns a page of occurrences, merged from the nearest checkpoint of the index. */
+  private Stream<CronOccurrence> fetch(int offset, int limit) {
+    if (index == null) {
+      Map<String, CronExpressionCache.Entry> parsed = getEntries();
+      index = new MergedOccurrenceIndex(expressions.stream().map(parsed::get).toList(), anchor);
+    }
+    return index.fetch(offset, limit).stream();
+  }
+
+}
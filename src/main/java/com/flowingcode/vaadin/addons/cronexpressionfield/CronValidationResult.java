@@ -0,0 +1,118 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.io.Serializable;
+
+/**
+ * Result of the validation of a cron expression by {@link CronValidator}.
+ */
+@SuppressWarnings("serial")
+public final class CronValidationResult implements Serializable {
+
+  private final int index;
+  private final String expression;
+  private final boolean valid;
+  private final String errorMessage;
+  private final int errorPosition;
+  private final CompiledCronExpression compiledExpression;
+  private CronAnalysis analysis;
+
+  CronValidationResult(int index, String expression, boolean valid, String errorMessage, int errorPosition) {
+    this(index, expression, valid, errorMessage, errorPosition, null, null);
+  }
+
+  CronValidationResult(int index, String expression, boolean valid, String errorMessage, int errorPosition,
+      CompiledCronExpression compiledExpression, CronAnalysis analysis) {
+    this.index = index;
+    this.expression = expression;
+    this.valid = valid;
+    this.errorMessage = errorMessage;
+    this.errorPosition = errorPosition;
+    this.compiledExpression = compiledExpression;
+    this.analysis = analysis;
+  }
+
+  /**
+   * Returns the position of the expression in the validated collection.
+   *
+   * @return the index of the expression
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  /**
+   * Returns the validated expression.
+   *
+   * @return the cron expression
+   */
+  public String getExpression() {
+    return expression;
+  }
+
+  /**
+   * Returns whether the expression is valid.
+   *
+   * @return {@code true} if the expression is valid, {@code false} otherwise
+   */
+  public boolean isValid() {
+    return valid;
+  }
+
+  /**
+   * Returns the message of the validation error.
+   *
+   * @return the error message, or {@code null} if the expression is valid
+   */
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
+  /**
+   * Returns the position in the expression of the field where the validation error was found.
+   *
+   * @return the zero-based position of the error, or {@code -1} if the expression is valid
+   */
+  public int getErrorPosition() {
+    return errorPosition;
+  }
+
+  /**
+   * Returns the static analysis of the expression, which is computed the first time it is requested. Expressions that
+   * never fire are not valid, and their analysis reports it.
+   *
+   * @return the {@link CronAnalysis}, or {@code null} if the expression cannot be parsed or uses syntax that cannot be
+   *         compiled
+   */
+  public CronAnalysis getAnalysis() {
+    if (analysis == null && compiledExpression != null) {
+      analysis = CronAnalysis.analyze(compiledExpression);
+    }
+    return analysis;
+  }
+
+  @Override
+  public String toString() {
+    return valid ? index + ": " + expression
+        : index + ": " + expression + " (error at " + errorPosition + ": " + errorMessage + ")";
+  }
+
+}
@@ -0,0 +1,87 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Validates cron expressions with the same rules as {@link CronExpressionField}.
+ */
+public final class CronValidator {
+
+  /** Minimum number of expressions for which {@link #validateAll(Collection)} runs in parallel. */
+  static final int PARALLEL_THRESHOLD = 256;
+
+  private CronValidator() {}
+
+  /**
+   * Returns whether an expression is valid.
+   *
+   * @param expression the cron expression
+   * @return {@code true} if the expression is valid, {@code false} otherwise
+   */
+  public static boolean isValid(String expression) {
+    return validate(0, expression).isValid();
+  }
+
+  /**
+   * Validates an expression.
+   *
+   * @param expression the cron expression
+   * @return the result of the validation
+   */
+  public static CronValidationResult validate(String expression) {
+    return validate(0, expression);
+  }
+
+  /**
+   * Validates a collection of expressions. Large collections are validated in parallel, using the common fork-join pool.
+   *
+   * <p>
+   * Expressions that are already in the shared {@link CronExpressionCache} are not parsed again. Other expressions are
+   * parsed without being added to the cache, so that bulk validations do not evict the expressions being edited.
+   *
+   * @param expressions the cron expressions
+   * @return the results of the validation, in the iteration order of {@code expressions}
+   */
+  public static List<CronValidationResult> validateAll(Collection<String> expressions) {
+    List<String> list = expressions instanceof List<String> l ? l : new ArrayList<>(expressions);
+    IntStream indexes = IntStream.range(0, list.size());
+    if (list.size() >= PARALLEL_THRESHOLD) {
+      indexes = indexes.parallel();
+    }
+    return indexes.mapToObj(i -> validate(i, list.get(i))).toList();
+  }
+
+  private static CronValidationResult validate(int index, String expression) {
+    if (expression == null) {
+      return new CronValidationResult(index, null, false, "Empty cron expression", 0);
+    }
+    CronExpressionCache.Entry entry = CronExpressionCache.lookup(expression);
+    CompiledCronExpression compiled = entry.getCompiledExpression();
+    CronAnalysis analysis = compiled == null ? entry.getAnalysis() : null;
+    return new CronValidationResult(index, expression, entry.isValid(), entry.getErrorMessage(),
+        entry.getErrorPosition(), compiled, analysis);
+  }
+
+}
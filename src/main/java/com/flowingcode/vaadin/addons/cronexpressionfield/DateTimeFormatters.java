@@ -0,0 +1,53 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Localized formatters of occurrences, shared by all the components. */
+final class DateTimeFormatters {
+
+  private record Key(Locale locale, FormatStyle dateStyle, FormatStyle timeStyle) {}
+
+  private static final Map<Key, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+  private DateTimeFormatters() {}
+
+  /** Returns the formatter for the given locale and styles, creating it if it was not already created. */
+  static DateTimeFormatter get(Locale locale, FormatStyle dateStyle, FormatStyle timeStyle) {
+    return FORMATTERS.computeIfAbsent(new Key(locale, dateStyle, timeStyle), DateTimeFormatters::create);
+  }
+
+  private static DateTimeFormatter create(Key key) {
+    DateTimeFormatter formatter =
+        DateTimeFormatter.ofLocalizedDateTime(key.dateStyle(), key.timeStyle()).withLocale(key.locale());
+    if (key.timeStyle() == FormatStyle.LONG || key.timeStyle() == FormatStyle.FULL) {
+      // long and full time styles print the time zone, which is not available in a LocalDateTime
+      formatter = formatter.withZone(ZoneId.systemDefault());
+    }
+    return formatter;
+  }
+
+}
@@ -0,0 +1,228 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Number of times that one or more cron expressions fire in consecutive buckets of a minute, an hour or a day.
+ *
+ * <p>
+ * Compiled expressions are counted in closed form from the bitmasks of their fields, without computing their
+ * occurrences: the cost depends on the number of buckets, not on the number of times the expressions fire. Expressions
+ * that cannot be compiled are counted by computing their occurrences.
+ */
+@SuppressWarnings("serial")
+public final class LoadHistogram implements Serializable {
+
+  private final LocalDateTime start;
+
+  private final ChronoUnit unit;
+
+  private final long[] counts;
+
+  private LoadHistogram(LocalDateTime start, ChronoUnit unit, long[] counts) {
+    this.start = start;
+    this.unit = unit;
+    this.counts = counts;
+  }
+
+  /**
+   * Computes the histogram of an expression.
+   *
+   * @param expression the cron expression
+   * @param from the date and time from which the expression is counted, truncated to {@code unit}
+   * @param unit the size of the buckets, one of {@link ChronoUnit#MINUTES}, {@link ChronoUnit#HOURS} or
+   *        {@link ChronoUnit#DAYS}
+   * @param buckets the number of buckets
+   * @return the histogram
+   * @throws IllegalArgumentException if the expression is not valid, or the unit is not supported
+   */
+  public static LoadHistogram compute(String expression, LocalDateTime from, ChronoUnit unit, int buckets) {
+    return compute(List.of(expression), from, unit, buckets);
+  }
+
+  /**
+   * Computes the histogram of the sum of several expressions, such as a catalog of common expressions.
+   *
+   * @param expressions the cron expressions
+   * @param from the date and time from which the expressions are counted, truncated to {@code unit}
+   * @param unit the size of the buckets, one of {@link ChronoUnit#MINUTES}, {@link ChronoUnit#HOURS} or
+   *        {@link ChronoUnit#DAYS}
+   * @param buckets the number of buckets
+   * @return the histogram
+   * @throws IllegalArgumentException if any of the expressions is not valid, or the unit is not supported
+   */
+  public static LoadHistogram compute(Collection<String> expressions, LocalDateTime from, ChronoUnit unit,
+      int buckets) {
+    Objects.requireNonNull(from, "from must not be null");
+    if (unit != ChronoUnit.MINUTES && unit != ChronoUnit.HOURS && unit != ChronoUnit.DAYS) {
+      throw new IllegalArgumentException("Unsupported unit: " + unit);
+    }
+    if (buckets < 0) {
+      throw new IllegalArgumentException("buckets must not be negative");
+    }
+    LocalDateTime start = from.truncatedTo(unit);
+    long[] counts = new long[buckets];
+    for (String expression : expressions) {
+      CronExpressionCache.Entry entry = CronExpressionCache.lookup(Objects.requireNonNull(expression));
+      if (!entry.isValid()) {
+        throw new IllegalArgumentException("Invalid cron expression: " + expression);
+      }
+      if (entry.getCompiledExpression() != null) {
+        count(entry.getCompiledExpression(), start, unit, counts);
+      } else {
+        enumerate(entry, start, unit, counts);
+      }
+    }
+    return new LoadHistogram(start, unit, counts);
+  }
+
+  private static void count(CompiledCronExpression compiled, LocalDateTime start, ChronoUnit unit, long[] counts) {
+    long hours = compiled.getHours();
+    long minutes = compiled.getMinutes();
+    long perMinute = Long.bitCount(compiled.getSeconds());
+    long perHour = Long.bitCount(minutes) * perMinute;
+    long perDay = Long.bitCount(hours) * perHour;
+
+    LocalDate date = start.toLocalDate();
+    int hour = start.getHour();
+    int minute = start.getMinute();
+    int i = 0;
+    while (i < counts.length) {
+      boolean matchesDay = compiled.matchesDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+      switch (unit) {
+        case DAYS:
+          counts[i++] += matchesDay ? perDay : 0;
+          break;
+        case HOURS:
+          for (; hour < 24 && i < counts.length; hour++, i++) {
+            if (matchesDay && (hours & (1L << hour)) != 0) {
+              counts[i] += perHour;
+            }
+          }
+          break;
+        default:
+          for (; hour < 24 && i < counts.length; hour++, minute = 0) {
+            boolean matchesHour = matchesDay && (hours & (1L << hour)) != 0;
+            for (; minute < 60 && i < counts.length; minute++, i++) {
+              if (matchesHour && (minutes & (1L << minute)) != 0) {
+                counts[i] += perMinute;
+              }
+            }
+          }
+          break;
+      }
+      hour = 0;
+      minute = 0;
+      date = date.plusDays(1);
+    }
+  }
+
+  private static void enumerate(CronExpressionCache.Entry entry, LocalDateTime start, ChronoUnit unit,
+      long[] counts) {
+    LocalDateTime end = start.plus(counts.length, unit);
+    for (LocalDateTime date = entry.next(start.minusSeconds(1)); date != null && date.isBefore(end)
+        && !Thread.currentThread().isInterrupted(); date = entry.next(date)) {
+      counts[(int) unit.between(start, date)]++;
+    }
+  }
+
+  /**
+   * Returns the start of the first bucket.
+   *
+   * @return the start of the histogram
+   */
+  public LocalDateTime getStart() {
+    return start;
+  }
+
+  /**
+   * Returns the size of the buckets.
+   *
+   * @return the unit of the buckets
+   */
+  public ChronoUnit getUnit() {
+    return unit;
+  }
+
+  /**
+   * Returns the number of buckets.
+   *
+   * @return the number of buckets
+   */
+  public int size() {
+    return counts.length;
+  }
+
+  /**
+   * Returns the start of a bucket.
+   *
+   * @param bucket the index of the bucket
+   * @return the start of the bucket
+   */
+  public LocalDateTime getBucketStart(int bucket) {
+    Objects.checkIndex(bucket, counts.length);
+    return start.plus(bucket, unit);
+  }
+
+  /**
+   * Returns the number of times the expressions fire in a bucket.
+   *
+   * @param bucket the index of the bucket
+   * @return the count of the bucket
+   */
+  public long getCount(int bucket) {
+    return counts[bucket];
+  }
+
+  /**
+   * Returns the highest count of all the buckets.
+   *
+   * @return the maximum count, or zero if there are no buckets
+   */
+  public long getMaximum() {
+    long maximum = 0;
+    for (long count : counts) {
+      maximum = Math.max(maximum, count);
+    }
+    return maximum;
+  }
+
+  /**
+   * Returns the number of times the expressions fire in all the buckets.
+   *
+   * @return the total count
+   */
+  public long getTotal() {
+    long total = 0;
+    for (long count : counts) {
+      total += count;
+    }
+    return total;
+  }
+
+}
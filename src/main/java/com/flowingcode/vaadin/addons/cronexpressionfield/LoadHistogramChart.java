@@ -0,0 +1,86 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import com.vaadin.flow.component.html.Div;
+
+/**
+ * Bar chart of a {@link LoadHistogram}, with one bar per bucket scaled to the highest count. The chart is rendered as
+ * a single SVG path, so that histograms with thousands of buckets are cheap to display.
+ */
+@SuppressWarnings("serial")
+public class LoadHistogramChart extends Div {
+
+  private LoadHistogram histogram;
+
+  /** Creates a new instance of {@code LoadHistogramChart} without histogram. */
+  public LoadHistogramChart() {
+    addClassName("fc-cron-load-histogram");
+  }
+
+  /**
+   * Sets the histogram to be displayed.
+   *
+   * @param histogram the histogram to be displayed, or {@code null} to clear the chart
+   */
+  public void setHistogram(LoadHistogram histogram) {
+    this.histogram = histogram;
+    setPending(false);
+    if (histogram == null || histogram.size() == 0) {
+      getElement().setProperty("innerHTML", "");
+      getElement().removeAttribute("title");
+      return;
+    }
+
+    long maximum = histogram.getMaximum();
+    StringBuilder path = new StringBuilder();
+    for (int i = 0; i < histogram.size() && maximum > 0; i++) {
+      long count = histogram.getCount(i);
+      if (count > 0) {
+        String height = Long.toString(Math.max(1, Math.round(count * 100.0 / maximum)));
+        path.append('M').append(i).append(" 100v-").append(height).append("h1v").append(height).append('z');
+      }
+    }
+    getElement().setProperty("innerHTML",
+        "<svg viewBox=\"0 0 " + histogram.size() + " 100\" preserveAspectRatio=\"none\" width=\"100%\" height=\"100%\">"
+            + "<path d=\"" + path + "\"/></svg>");
+    getElement().setAttribute("title", histogram.getTotal() + " (max. " + maximum + ")");
+  }
+
+  /**
+   * Sets whether a new histogram is being computed, in which case the current histogram is displayed dimmed until it is
+   * replaced with {@link #setHistogram(LoadHistogram)}.
+   *
+   * @param pending whether a new histogram is being computed
+   */
+  public void setPending(boolean pending) {
+    setClassName("fc-cron-load-histogram-pending", pending);
+  }
+
+  /**
+   * Returns the histogram that is displayed.
+   *
+   * @return the histogram, or {@code null} if the chart is empty
+   */
+  public LoadHistogram getHistogram() {
+    return histogram;
+  }
+
+}
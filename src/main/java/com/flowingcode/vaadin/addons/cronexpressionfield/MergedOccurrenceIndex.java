@@ -0,0 +1,129 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Seekable index of the merged occurrences of several cron expressions after an anchor date.
+ *
+ * <p>
+ * Like {@link OccurrenceIndex}, the index keeps a checkpoint every {@value OccurrenceIndex#CHECKPOINT_INTERVAL}
+ * occurrences and retains the most recently fetched pages, so that the memory used does not grow with the number of
+ * occurrences scrolled through. A checkpoint holds the date of its occurrence and the number of occurrences at the
+ * same date that precede it, so that the merge is resumed from that date without keeping the next occurrence of each
+ * expression. Instances are not thread-safe.
+ */
+final class MergedOccurrenceIndex {
+
+  private static final int CHECKPOINT_INTERVAL = OccurrenceIndex.CHECKPOINT_INTERVAL;
+
+  private final List<CronExpressionCache.Entry> entries;
+
+  private final LocalDateTime anchor;
+
+  /** The occurrence number {@code i * CHECKPOINT_INTERVAL} is at position {@code i}. */
+  private final List<Checkpoint> checkpoints = new ArrayList<>();
+
+  private final Map<Long, List<CronOccurrence>> pages = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Long, List<CronOccurrence>> eldest) {
+      return size() > OccurrenceIndex.MAXIMUM_PAGES;
+    }
+  };
+
+  /**
+   * Creates an index of the merged occurrences of the given valid entries, strictly after the given anchor.
+   */
+  MergedOccurrenceIndex(List<CronExpressionCache.Entry> entries, LocalDateTime anchor) {
+    this.entries = List.copyOf(entries);
+    this.anchor = Objects.requireNonNull(anchor);
+  }
+
+  /**
+   * Returns the occurrences in the given range, merged from the nearest checkpoint.
+   *
+   * @param offset the number of the first occurrence, starting at zero
+   * @param limit the maximum number of occurrences to return
+   * @return the occurrences in the range, fewer than {@code limit} if the expressions do not fire again
+   */
+  List<CronOccurrence> fetch(int offset, int limit) {
+    Long key = ((long) offset << 32) | (limit & 0xFFFFFFFFL);
+    List<CronOccurrence> page = pages.get(key);
+    if (page == null) {
+      page = compute(offset, limit);
+      pages.put(key, page);
+    }
+    return page;
+  }
+
+  private List<CronOccurrence> compute(int offset, int limit) {
+    int n;
+    Iterator<CronOccurrence> iterator;
+    LocalDateTime previous;
+    int same;
+    if (checkpoints.isEmpty()) {
+      n = 0;
+      iterator = CronOccurrences.mergeEntries(entries, anchor).iterator();
+      previous = null;
+      same = 0;
+    } else {
+      int checkpoint = Math.min(offset / CHECKPOINT_INTERVAL, checkpoints.size() - 1);
+      Checkpoint start = checkpoints.get(checkpoint);
+      n = checkpoint * CHECKPOINT_INTERVAL;
+      // the occurrences are computed strictly after the given date, and their dates have no fraction of second
+      iterator = CronOccurrences.mergeEntries(entries, start.date().minusNanos(1)).iterator();
+      for (int i = 0; i < start.preceding(); i++) {
+        iterator.next();
+      }
+      previous = start.date();
+      same = start.preceding() - 1;
+    }
+
+    long end = (long) offset + limit;
+    List<CronOccurrence> page = new ArrayList<>(Math.max(0, Math.min(limit, CHECKPOINT_INTERVAL)));
+    while (n < end && iterator.hasNext()) {
+      CronOccurrence occurrence = iterator.next();
+      same = occurrence.getDate().equals(previous) ? same + 1 : 0;
+      previous = occurrence.getDate();
+      if (n % CHECKPOINT_INTERVAL == 0 && n / CHECKPOINT_INTERVAL == checkpoints.size()) {
+        checkpoints.add(new Checkpoint(previous, same));
+      }
+      if (n >= offset) {
+        page.add(occurrence);
+      }
+      n++;
+    }
+    return List.copyOf(page);
+  }
+
+  /**
+   * The date of an occurrence, and the number of occurrences at the same date that precede it in the merge order.
+   */
+  private record Checkpoint(LocalDateTime date, int preceding) {}
+
+}
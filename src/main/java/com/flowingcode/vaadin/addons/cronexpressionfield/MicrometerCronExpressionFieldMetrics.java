@@ -0,0 +1,106 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CronExpressionFieldMetrics} that records the measurements in a Micrometer {@link MeterRegistry}. It requires
+ * {@code io.micrometer:micrometer-core}, which is an optional dependency of the add-on.
+ *
+ * <p>
+ * The following meters are registered, all of them tagged with the {@code layout} displayed by the field:
+ * <ul>
+ * <li>{@code cron.expression.field.validation}, {@code cron.expression.field.description},
+ * {@code cron.expression.field.next.dates.page} and {@code cron.expression.field.layout} timers;</li>
+ * <li>a {@code cron.expression.field.parse.failures} counter;</li>
+ * <li>a {@code cron.expression.field.cache.gets} counter, tagged with a {@code result} of {@code hit} or
+ * {@code miss}.</li>
+ * </ul>
+ * The meters are registered when the instance is created, so that recording a measurement does not look them up.
+ */
+public final class MicrometerCronExpressionFieldMetrics implements CronExpressionFieldMetrics {
+
+  private static final String PREFIX = "cron.expression.field.";
+
+  private final Timer[][] timers;
+
+  private final Counter[] parseFailures;
+
+  private final Counter[] cacheHits;
+
+  private final Counter[] cacheMisses;
+
+  /**
+   * Creates a new instance that registers its meters in the given registry.
+   *
+   * @param registry the {@link MeterRegistry} of the meters
+   */
+  public MicrometerCronExpressionFieldMetrics(MeterRegistry registry) {
+    Objects.requireNonNull(registry, "registry must not be null");
+    LayoutOptions[] layouts = LayoutOptions.values();
+    Operation[] operations = Operation.values();
+    timers = new Timer[operations.length][layouts.length];
+    parseFailures = new Counter[layouts.length];
+    cacheHits = new Counter[layouts.length];
+    cacheMisses = new Counter[layouts.length];
+    for (LayoutOptions layout : layouts) {
+      String tag = layout.name().toLowerCase(Locale.ROOT);
+      for (Operation operation : operations) {
+        timers[operation.ordinal()][layout.ordinal()] =
+            Timer.builder(PREFIX + operation.name().toLowerCase(Locale.ROOT).replace('_', '.'))
+                .tag("layout", tag).register(registry);
+      }
+      parseFailures[layout.ordinal()] =
+          Counter.builder(PREFIX + "parse.failures").tag("layout", tag).register(registry);
+      cacheHits[layout.ordinal()] =
+          Counter.builder(PREFIX + "cache.gets").tag("layout", tag).tag("result", "hit").register(registry);
+      cacheMisses[layout.ordinal()] =
+          Counter.builder(PREFIX + "cache.gets").tag("layout", tag).tag("result", "miss").register(registry);
+    }
+  }
+
+  @Override
+  public long start() {
+    return System.nanoTime();
+  }
+
+  @Override
+  public void stop(Operation operation, LayoutOptions layout, long start) {
+    timers[operation.ordinal()][layout.ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void parseFailure(LayoutOptions layout) {
+    parseFailures[layout.ordinal()].increment();
+  }
+
+  @Override
+  public void cacheLookup(LayoutOptions layout, boolean hit) {
+    (hit ? cacheHits : cacheMisses)[layout.ordinal()].increment();
+  }
+
+}
@@ -0,0 +1,218 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.slf4j.LoggerFactory;
+import com.vaadin.flow.component.UI;
+
+/**
+ * Computes the next dates of an expression in the background, a chunk at a time, and delivers them to the UI with
+ * {@link UI#access(com.vaadin.flow.server.Command)}.
+ *
+ * <p>
+ * Each chunk is computed within a time and iteration budget. Once a chunk is exhausted, or its budget is exceeded, no
+ * more chunks are computed. The computation of a chunk is cancelled when the loader is reset. All the methods must be
+ * called with the session locked.
+ *
+ * <p>
+ * Chunks computed in the background are only displayed as soon as they are loaded when server push is enabled. Without
+ * push, they would wait for an unrelated round trip, so the chunks are computed synchronously instead, within the same
+ * budget.
+ *
+ * <p>
+ * If the computation of a chunk fails, the failure is logged and the loading stops as if the budget was exceeded. A
+ * finished task whose chunk was never delivered, because the UI was detached meanwhile, is discarded by the next
+ * request.
+ */
+final class NextDatesLoader {
+
+  /** Minimum number of occurrences computed by each background task. */
+  static final int CHUNK_SIZE = 100;
+
+  private final Runnable onUpdate;
+
+  private final Supplier<LayoutOptions> layout;
+
+  private Duration timeout;
+
+  private long maximumIterations;
+
+  private OccurrenceIndex index;
+
+  private final List<LocalDateTime> loaded = new ArrayList<>();
+
+  private boolean complete = true;
+
+  private boolean budgetExceeded;
+
+  private Future<?> task;
+
+  /**
+   * Creates a new loader.
+   *
+   * @param onUpdate the callback that is run, with the session locked, after a chunk of occurrences is loaded
+   * @param layout the layout that tags the computation of the chunks in the {@link CronExpressionFieldMetrics}
+   */
+  NextDatesLoader(Runnable onUpdate, Supplier<LayoutOptions> layout, Duration timeout, long maximumIterations) {
+    this.onUpdate = onUpdate;
+    this.layout = layout;
+    setBudget(timeout, maximumIterations);
+  }
+
+  /** Sets the budget of the chunks computed from now on. */
+  void setBudget(Duration timeout, long maximumIterations) {
+    this.timeout = timeout;
+    this.maximumIterations = maximumIterations;
+  }
+
+  /**
+   * Cancels the current computation and discards the loaded occurrences, and starts loading the occurrences of the
+   * given expression after the given anchor.
+   *
+   * @param entry the expression, or {@code null} if there are no occurrences to load
+   */
+  void reset(CronExpressionCache.Entry entry, LocalDateTime anchor) {
+    cancel();
+    loaded.clear();
+    index = entry != null && entry.isValid() ? new OccurrenceIndex(entry, anchor) : null;
+    complete = index == null;
+    budgetExceeded = false;
+  }
+
+  /**
+   * Cancels the current computation, if any. The index is replaced, since the cancelled task may still be running on
+   * it and an index is not thread-safe, and so that the chunk of the cancelled task is not loaded.
+   */
+  void cancel() {
+    if (task != null) {
+      task.cancel(true);
+      task = null;
+      index = index.restart();
+    }
+  }
+
+  /** Returns the number of occurrences loaded so far. */
+  int size() {
+    return loaded.size();
+  }
+
+  /** Returns whether a chunk is being computed. */
+  boolean isLoading() {
+    return task != null;
+  }
+
+  /** Returns whether the loading stopped because a chunk exceeded its budget or could not be computed. */
+  boolean isBudgetExceeded() {
+    return budgetExceeded;
+  }
+
+  /**
+   * Returns the loaded occurrences in the given range, and requests the computation of the next chunk if the range is
+   * close to the end of the loaded occurrences.
+   */
+  Stream<LocalDateTime> fetch(int offset, int limit) {
+    request((int) Math.min(Integer.MAX_VALUE, (long) offset + limit + CHUNK_SIZE));
+    int end = Math.min(offset + limit, loaded.size());
+    return loaded.subList(Math.min(offset, end), end).stream();
+  }
+
+  /** Requests the computation of the occurrences until at least {@code size} occurrences are loaded. */
+  void request(int size) {
+    if (task != null && task.isDone()) {
+      // the chunk of the task was not delivered, since the UI was detached after it finished
+      task = null;
+      index = index.restart();
+    }
+    UI ui = UI.getCurrent();
+    if (complete || task != null || loaded.size() >= size || ui == null) {
+      return;
+    }
+    OccurrenceIndex target = index;
+    int offset = loaded.size();
+    int limit = Math.max(CHUNK_SIZE, size - offset);
+    Duration timeout = this.timeout;
+    long maximumIterations = this.maximumIterations;
+    CronExpressionFieldMetrics metrics = CronExpressionField.getMetrics();
+    LayoutOptions layout = this.layout.get();
+    if (!ui.getPushConfiguration().getPushMode().isEnabled()) {
+      try {
+        long start = metrics.start();
+        OccurrenceIndex.Budget budget = new OccurrenceIndex.Budget(timeout, maximumIterations);
+        List<LocalDateTime> chunk = target.fetch(offset, limit, budget);
+        metrics.stop(CronExpressionFieldMetrics.Operation.NEXT_DATES_PAGE, layout, start);
+        load(chunk, limit, budget);
+      } catch (RuntimeException e) {
+        fail(e);
+      }
+      // the size may have been queried already in this round trip
+      ui.beforeClientResponse(ui, context -> onUpdate.run());
+      return;
+    }
+    task = BackgroundExecutor.get().submit(() -> {
+      List<LocalDateTime> chunk;
+      OccurrenceIndex.Budget budget;
+      try {
+        long start = metrics.start();
+        budget = new OccurrenceIndex.Budget(timeout, maximumIterations);
+        chunk = target.fetch(offset, limit, budget);
+        metrics.stop(CronExpressionFieldMetrics.Operation.NEXT_DATES_PAGE, layout, start);
+      } catch (RuntimeException e) {
+        deliver(ui, target, () -> fail(e));
+        return;
+      }
+      if (Thread.currentThread().isInterrupted()) {
+        return;
+      }
+      deliver(ui, target, () -> load(chunk, limit, budget));
+    });
+  }
+
+  /** Runs the given command with the session locked, unless the task of the given index was cancelled meanwhile. */
+  private void deliver(UI ui, OccurrenceIndex target, Runnable command) {
+    ui.accessLater(() -> {
+      if (index == target) {
+        task = null;
+        command.run();
+        onUpdate.run();
+      }
+    }, null).run();
+  }
+
+  /** Stops loading after a chunk could not be computed. */
+  private void fail(RuntimeException e) {
+    LoggerFactory.getLogger(NextDatesLoader.class).error("Failed to compute the next dates", e);
+    complete = true;
+    budgetExceeded = true;
+  }
+
+  private void load(List<LocalDateTime> chunk, int limit, OccurrenceIndex.Budget budget) {
+    loaded.addAll(chunk);
+    budgetExceeded = budget.isExceeded();
+    complete = chunk.size() < limit;
+  }
+
+}
@@ -0,0 +1,204 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Seekable index of the occurrences of a cron expression after an anchor date.
+ *
+ * <p>
+ * The index keeps a checkpoint every {@value #CHECKPOINT_INTERVAL} occurrences, so that a page of occurrences is
+ * computed from the nearest checkpoint instead of walking from the anchor. The most recently fetched pages are
+ * retained, so that fetching them again does not compute any occurrence. A fetch can be limited by a {@link Budget}, so
+ * that sparse expressions do not compute occurrences for too long. Instances are not thread-safe.
+ */
+final class OccurrenceIndex {
+
+  /** Number of occurrences between two consecutive checkpoints. */
+  static final int CHECKPOINT_INTERVAL = 256;
+
+  /** Number of pages retained by each index. */
+  static final int MAXIMUM_PAGES = 16;
+
+  private final CronExpressionCache.Entry entry;
+
+  private final LocalDateTime anchor;
+
+  /** The occurrence number {@code i * CHECKPOINT_INTERVAL} is at position {@code i}. */
+  private final List<LocalDateTime> checkpoints = new ArrayList<>();
+
+  private boolean exhausted;
+
+  private final Map<Long, List<LocalDateTime>> pages = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Long, List<LocalDateTime>> eldest) {
+      return size() > MAXIMUM_PAGES;
+    }
+  };
+
+  OccurrenceIndex(CronExpressionCache.Entry entry, LocalDateTime anchor) {
+    this.entry = Objects.requireNonNull(entry);
+    this.anchor = Objects.requireNonNull(anchor);
+  }
+
+  /** Returns a new index of the same occurrences, without any of the checkpoints and pages of this index. */
+  OccurrenceIndex restart() {
+    return new OccurrenceIndex(entry, anchor);
+  }
+
+  String getExpression() {
+    return entry.getExpression();
+  }
+
+  LocalDateTime getAnchor() {
+    return anchor;
+  }
+
+  /**
+   * Returns the occurrences in the given range, computed from the nearest checkpoint.
+   *
+   * @param offset the number of the first occurrence, starting at zero
+   * @param limit the maximum number of occurrences to return
+   * @return the occurrences in the range, fewer than {@code limit} if the expression does not fire again
+   */
+  List<LocalDateTime> fetch(int offset, int limit) {
+    return fetch(offset, limit, new Budget(null, Long.MAX_VALUE));
+  }
+
+  /**
+   * Returns the occurrences in the given range, computed from the nearest checkpoint within the given budget. If the
+   * budget is exceeded, the occurrences computed so far are returned and {@link Budget#isExceeded()} is set.
+   *
+   * @param offset the number of the first occurrence, starting at zero
+   * @param limit the maximum number of occurrences to return
+   * @param budget the budget of the computation
+   * @return the occurrences in the range, fewer than {@code limit} if the expression does not fire again or the budget
+   *         is exceeded
+   */
+  List<LocalDateTime> fetch(int offset, int limit, Budget budget) {
+    Long key = ((long) offset << 32) | (limit & 0xFFFFFFFFL);
+    List<LocalDateTime> page = pages.get(key);
+    if (page == null) {
+      page = compute(offset, limit, budget);
+      if (!budget.isExceeded()) {
+        pages.put(key, page);
+      }
+    }
+    return page;
+  }
+
+  private List<LocalDateTime> compute(int offset, int limit, Budget budget) {
+    if (checkpoints.isEmpty() && !exhausted && budget.consume()) {
+      LocalDateTime first = entry.next(anchor);
+      if (first == null) {
+        exhausted = true;
+      } else {
+        checkpoints.add(first);
+      }
+    }
+
+    int checkpoint = offset / CHECKPOINT_INTERVAL;
+    while (checkpoints.size() <= checkpoint && !exhausted && !budget.isExceeded()) {
+      int last = checkpoints.size() - 1;
+      walk(last * CHECKPOINT_INTERVAL, checkpoints.get(last), CHECKPOINT_INTERVAL, null, budget);
+    }
+    if (checkpoints.size() <= checkpoint) {
+      return List.of();
+    }
+
+    int start = checkpoint * CHECKPOINT_INTERVAL;
+    LocalDateTime date = walk(start, checkpoints.get(checkpoint), offset - start, null, budget);
+    List<LocalDateTime> page = new ArrayList<>(limit);
+    if (date != null && limit > 0 && !budget.isExceeded()) {
+      page.add(date);
+      walk(offset, date, limit - 1, page, budget);
+    }
+    return List.copyOf(page);
+  }
+
+  /**
+   * Advances {@code steps} occurrences from the occurrence number {@code n}, recording the checkpoints that are passed
+   * and adding the visited occurrences to {@code visited}, if not {@code null}. Stops early if the budget is exceeded.
+   */
+  private LocalDateTime walk(int n, LocalDateTime date, int steps, List<LocalDateTime> visited, Budget budget) {
+    for (int i = 0; i < steps && date != null && budget.consume(); i++) {
+      date = entry.next(date);
+      n++;
+      if (date == null) {
+        exhausted = true;
+      } else {
+        if (n % CHECKPOINT_INTERVAL == 0 && n / CHECKPOINT_INTERVAL == checkpoints.size()) {
+          checkpoints.add(date);
+        }
+        if (visited != null) {
+          visited.add(date);
+        }
+      }
+    }
+    return date;
+  }
+
+  /**
+   * Limits the number of occurrences computed by a fetch and its duration. The computation also stops if the thread is
+   * interrupted.
+   */
+  static final class Budget {
+
+    private final long deadline;
+
+    private final boolean timed;
+
+    private long iterations;
+
+    private boolean exceeded;
+
+    /**
+     * Creates a budget of at most {@code maximumIterations} occurrences, computed within {@code timeout}, or without time
+     * limit if {@code timeout} is {@code null}.
+     */
+    Budget(Duration timeout, long maximumIterations) {
+      timed = timeout != null;
+      deadline = timed ? System.nanoTime() + timeout.toNanos() : 0;
+      iterations = maximumIterations;
+    }
+
+    /** Consumes one iteration, returning {@code false} if the budget is exceeded. */
+    boolean consume() {
+      if (!exceeded && (--iterations < 0 || timed && System.nanoTime() - deadline > 0
+          || Thread.currentThread().isInterrupted())) {
+        exceeded = true;
+      }
+      return !exceeded;
+    }
+
+    /** Returns whether the budget was exceeded. */
+    boolean isExceeded() {
+      return exceeded;
+    }
+  }
+
+}
@@ -0,0 +1,232 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Client-side validation and description of cron expressions for CronExpressionField.
+ *
+ * Only a subset of the syntax accepted by the server is checked here: six fields (second, minute, hour, day of month,
+ * month and day of week) made of '*', '?', values, ranges, steps, lists and month or day names. Expressions that use
+ * other syntax, such as the 'L', 'W' and '#' day variants or macros like '@daily', are not verified: they are left
+ * pending until the server validates them. The server remains the authority: the feedback rendered by this module is
+ * replaced by the server's when the expression is committed.
+ */
+const FIELDS = [
+  { min: 0, max: 59, unit: 'second' },
+  { min: 0, max: 59, unit: 'minute' },
+  { min: 0, max: 23, unit: 'hour' },
+  { min: 1, max: 31, any: true, unverified: /[LW]/ },
+  { min: 1, max: 12, names: ['JAN', 'FEB', 'MAR', 'APR', 'MAY', 'JUN', 'JUL', 'AUG', 'SEP', 'OCT', 'NOV', 'DEC'] },
+  { min: 0, max: 7, any: true, unverified: /[L#]/, names: ['MON', 'TUE', 'WED', 'THU', 'FRI', 'SAT', 'SUN'] }
+];
+
+const MONTHS = ['January', 'February', 'March', 'April', 'May', 'June', 'July', 'August', 'September', 'October',
+  'November', 'December'];
+
+const DAYS = ['Sunday', 'Monday', 'Tuesday', 'Wednesday', 'Thursday', 'Friday', 'Saturday', 'Sunday'];
+
+const NUMBER = /^\d{1,9}$/;
+
+function replaceNames(field, value) {
+  if (!field.names) {
+    return value;
+  }
+  value = value.toUpperCase();
+  field.names.forEach((name, i) => value = value.split(name).join(String(i + 1)));
+  return value;
+}
+
+function checkValue(field, value) {
+  return NUMBER.test(value) && +value >= field.min && +value <= field.max;
+}
+
+function checkRange(field, value) {
+  const [range, step, extra] = value.split('/');
+  if (extra !== undefined || (step !== undefined && (!NUMBER.test(step) || +step <= 0))) {
+    return false;
+  }
+  if (range === '*') {
+    return true;
+  }
+  const [from, to, rest] = range.split('-');
+  if (rest !== undefined || !checkValue(field, from)) {
+    return false;
+  }
+  return to === undefined || (checkValue(field, to) && +from <= +to);
+}
+
+/**
+ * Validates a cron expression.
+ *
+ * @param {string} expression the expression to validate
+ * @return {string[] | null | undefined} the normalized fields of the expression, null if it is not valid, or undefined
+ *     if it uses syntax that is only verified by the server
+ */
+function validate(expression) {
+  expression = (expression || '').trim();
+  if (expression.startsWith('@')) {
+    return undefined;
+  }
+  const values = expression.split(/\s+/);
+  if (values.length !== FIELDS.length) {
+    return null;
+  }
+  const result = [];
+  let verified = true;
+  for (let i = 0; i < FIELDS.length; i++) {
+    const field = FIELDS[i];
+    let value = values[i];
+    if (value === '?' && field.any) {
+      value = '*';
+    }
+    value = replaceNames(field, value);
+    if (field.unverified && field.unverified.test(value)) {
+      verified = false;
+    } else if (!value.split(',').every(range => checkRange(field, range))) {
+      return null;
+    }
+    result.push(value);
+  }
+  return verified ? result : undefined;
+}
+
+function pad(value) {
+  return String(value).padStart(2, '0');
+}
+
+function describeUnit(value, unit) {
+  if (value === '*') {
+    return `every ${unit}`;
+  }
+  let match = /^(?:\*|0)\/(\d+)$/.exec(value);
+  if (match) {
+    return `every ${match[1]} ${unit}s`;
+  }
+  if (NUMBER.test(value)) {
+    return `at ${unit} ${+value}`;
+  }
+  return null;
+}
+
+function describeTime([second, minute, hour]) {
+  if ([second, minute, hour].every(value => NUMBER.test(value))) {
+    return `At ${pad(hour)}:${pad(minute)}:${pad(second)}`;
+  }
+  const parts = [describeUnit(second, 'second'), describeUnit(minute, 'minute'), describeUnit(hour, 'hour')];
+  return parts.includes(null) ? null : parts.join(', ');
+}
+
+function describeList(value, names) {
+  const items = value.split(',');
+  return items.every(item => NUMBER.test(item)) ? items.map(item => names[+item]).join(', ') : null;
+}
+
+function describeDate([, , , dayOfMonth, month, dayOfWeek]) {
+  const parts = [];
+  if (dayOfMonth !== '*') {
+    if (!NUMBER.test(dayOfMonth)) {
+      return null;
+    }
+    parts.push(`on day ${+dayOfMonth} of the month`);
+  }
+  if (month !== '*') {
+    const match = /^(?:\*|1)\/(\d+)$/.exec(month);
+    const names = match ? null : describeList(month, [undefined].concat(MONTHS));
+    if (!match && !names) {
+      return null;
+    }
+    parts.push(match ? `every ${match[1]} months` : `only in ${names}`);
+  }
+  if (dayOfWeek !== '*') {
+    const names = describeList(dayOfWeek, DAYS);
+    if (!names) {
+      return null;
+    }
+    parts.push(`only on ${names}`);
+  }
+  return parts.join(', ');
+}
+
+/**
+ * Describes a validated cron expression in English.
+ *
+ * @param {string[]} fields the normalized fields returned by validate
+ * @return {string | null} the description, or null if the expression is too complex to be described here
+ */
+function describe(fields) {
+  const time = describeTime(fields);
+  const date = describeDate(fields);
+  if (time === null || date === null) {
+    return null;
+  }
+  const description = date ? `${time}, ${date}` : time;
+  return description.charAt(0).toUpperCase() + description.slice(1);
+}
+
+function enable(field, description, placeholder, describeEnabled) {
+  disable(field);
+  const state = { dirty: false };
+
+  const restore = () => {
+    if (state.dirty) {
+      description.textContent = state.text;
+      description.classList.remove('fc-cron-description-pending');
+      field.removeAttribute('fc-cron-invalid');
+      state.dirty = false;
+    }
+  };
+
+  state.onInput = () => {
+    const value = field.inputElement ? field.inputElement.value : field.value;
+    if (!state.dirty) {
+      state.value = field.value;
+      state.text = description.textContent;
+      state.dirty = true;
+    }
+    if (value === state.value) {
+      restore();
+      return;
+    }
+    const fields = validate(value);
+    field.toggleAttribute('fc-cron-invalid', fields === null);
+    // expressions that are not verified here keep the previous description, marked as pending
+    const text = fields ? (describeEnabled ? describe(fields) : null) : fields === null ? placeholder : null;
+    description.textContent = text === null ? state.text : text;
+    description.classList.toggle('fc-cron-description-pending', text === null);
+  };
+  state.onChange = restore;
+
+  field.addEventListener('input', state.onInput);
+  field.addEventListener('change', state.onChange);
+  field.__fcCronValidation = state;
+}
+
+function disable(field) {
+  const state = field.__fcCronValidation;
+  if (state) {
+    field.removeEventListener('input', state.onInput);
+    field.removeEventListener('change', state.onChange);
+    state.onChange();
+    delete field.__fcCronValidation;
+  }
+}
+
+window.Vaadin = window.Vaadin || {};
+window.Vaadin.Flow = window.Vaadin.Flow || {};
+window.Vaadin.Flow.fcCronExpressionField = { validate, describe, enable, disable };
@@ -36,6 +36,7 @@ public class CronExpressionFieldDemoView extends TabbedDemo {
     addDemo(NextDatesVisibleDemo.class);
     addDemo(CommonExpressionDemo.class);
     addDemo(HelpEnabledDemo.class);
+    addDemo(TimelineDemo.class);
     setSizeFull();
   }
 }
@@ -0,0 +1,79 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.UI;
+
+/** Tests of the package-private {@link NextDatesLoader}, which is not reachable from the public API in unit tests. */
+public class NextDatesLoaderTest {
+
+  @Before
+  public void setUp() {
+    UI.setCurrent(new UI());
+  }
+
+  @After
+  public void tearDown() {
+    UI.setCurrent(null);
+    CronExpressionField.setMetrics(null);
+  }
+
+  @Test
+  public void testFailedChunkStopsLoading() {
+    AtomicInteger attempts = new AtomicInteger();
+    CronExpressionField.setMetrics(new CronExpressionFieldMetrics() {
+      @Override
+      public void stop(Operation operation, LayoutOptions layout, long start) {
+        attempts.incrementAndGet();
+        throw new IllegalStateException("metrics failure");
+      }
+    });
+    NextDatesLoader loader =
+        new NextDatesLoader(() -> {}, () -> LayoutOptions.ADVANCED, Duration.ofSeconds(1), 100_000);
+    loader.reset(CronExpressionCache.parse("0 0 12 * * *"), LocalDateTime.of(2025, 1, 1, 0, 0));
+
+    Assert.assertEquals(0, loader.fetch(0, 50).count());
+    Assert.assertFalse(loader.isLoading());
+    Assert.assertTrue(loader.isBudgetExceeded());
+
+    loader.fetch(50, 50);
+    Assert.assertEquals(1, attempts.get());
+  }
+
+  @Test
+  public void testChunkIsLoaded() {
+    NextDatesLoader loader =
+        new NextDatesLoader(() -> {}, () -> LayoutOptions.ADVANCED, Duration.ofSeconds(1), 100_000);
+    loader.reset(CronExpressionCache.parse("0 0 12 * * *"), LocalDateTime.of(2025, 1, 1, 0, 0));
+
+    Assert.assertEquals(LocalDateTime.of(2025, 1, 1, 12, 0), loader.fetch(0, 50).findFirst().orElseThrow());
+    Assert.assertFalse(loader.isLoading());
+    Assert.assertFalse(loader.isBudgetExceeded());
+  }
+}
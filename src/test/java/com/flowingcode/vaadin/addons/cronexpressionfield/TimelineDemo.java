@@ -0,0 +1,53 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield;
+
+import com.flowingcode.vaadin.addons.demo.DemoSource;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.router.PageTitle;
+import com.vaadin.flow.router.Route;
+import java.util.ArrayList;
+import java.util.List;
+
+@DemoSource
+@PageTitle("Timeline Demo")
+@SuppressWarnings("serial")
+@Route(value = "cron-expression-field/timeline", layout = CronExpressionFieldDemoView.class)
+public class TimelineDemo extends VerticalLayout {
+
+  public TimelineDemo() {
+    List<String> expressions = new ArrayList<>(List.of("0 0 9 * * MON-FRI", "0 */30 * * * *", "0 0 0 1 * ?"));
+    CronTimeline timeline = new CronTimeline(expressions);
+    timeline.setHeight("300px");
+
+    CronExpressionField cronField = new CronExpressionField();
+    Button addBtn = new Button("Add to timeline", e -> {
+      if (cronField.getValue() != null && CronValidator.isValid(cronField.getValue())) {
+        expressions.add(cronField.getValue());
+        timeline.setExpressions(expressions);
+      }
+    });
+    Button refreshBtn = new Button("Refresh", e -> timeline.refresh());
+    add(cronField, new HorizontalLayout(addBtn, refreshBtn), timeline);
+  }
+
+}
@@ -0,0 +1,75 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield.test;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.scheduling.support.CronExpression;
+
+import com.flowingcode.vaadin.addons.cronexpressionfield.CompiledCronExpression;
+
+public class CompiledCronExpressionTest {
+
+  private static final String[][] FIELDS = {
+      {"*", "0", "*/15", "5/20", "10-20", "1,2,59", "30"},
+      {"*", "0", "*/7", "3-9/2", "45"},
+      {"*", "0", "*/5", "23", "8-17", "0,12"},
+      {"*", "?", "1", "15", "31", "29", "1-7", "10-20/3"},
+      {"*", "1", "FEB", "2", "*/3", "JUN-AUG", "12"},
+      {"*", "?", "MON", "0", "7", "MON-FRI", "SAT,SUN", "1-3"}};
+
+  @Test
+  public void testSameOccurrencesAsCronExpression() {
+    Random random = new Random(0);
+    for (int i = 0; i < 2000; i++) {
+      StringBuilder expression = new StringBuilder();
+      for (String[] values : FIELDS) {
+        expression.append(expression.length() == 0 ? "" : " ").append(values[random.nextInt(values.length)]);
+      }
+      CronExpression cron = CronExpression.parse(expression.toString());
+      CompiledCronExpression compiled = CompiledCronExpression.compile(expression.toString());
+      LocalDateTime date = LocalDateTime.of(2020 + random.nextInt(10), 1 + random.nextInt(12), 1 + random.nextInt(28),
+          random.nextInt(24), random.nextInt(60), random.nextInt(60));
+      for (int j = 0; j < 10 && date != null; j++) {
+        LocalDateTime next = compiled.next(date);
+        Assert.assertEquals(expression + " after " + date, cron.next(date), next);
+        if (next != null && j > 0) {
+          Assert.assertEquals(expression + " before " + next, date, compiled.previous(next));
+        }
+        date = next;
+      }
+    }
+  }
+
+  @Test
+  public void testNeverFires() {
+    CompiledCronExpression compiled = CompiledCronExpression.compile("0 0 0 30 2 *");
+    Assert.assertNull(compiled.next(LocalDateTime.of(2024, 1, 1, 0, 0)));
+    Assert.assertNull(compiled.previous(LocalDateTime.of(2024, 1, 1, 0, 0)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnsupportedSyntax() {
+    CompiledCronExpression.compile("0 0 0 L * *");
+  }
+
+}
@@ -0,0 +1,78 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield.test;
+
+import java.util.Locale;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.flowingcode.vaadin.addons.cronexpressionfield.CronExpressionCache;
+import com.flowingcode.vaadin.addons.cronexpressionfield.CronValidator;
+
+public class CronExpressionCacheTest {
+
+  @Test
+  public void testEntryIsParsedOnce() {
+    CronExpressionCache cache = new CronExpressionCache(10);
+    CronExpressionCache.Entry entry = cache.get("0 0 12 * * ?");
+    Assert.assertTrue(entry.isValid());
+    Assert.assertNotNull(entry.getCronExpression());
+    Assert.assertSame(entry, cache.get("0 0 12 * * ?"));
+    Assert.assertEquals(1, cache.getMissCount());
+    Assert.assertEquals(1, cache.getHitCount());
+  }
+
+  @Test
+  public void testBulkLookupsDoNotCountHits() {
+    CronExpressionCache cache = CronExpressionCache.getInstance();
+    cache.get("0 0 13 * * ?");
+    long hits = cache.getHitCount();
+    Assert.assertTrue(CronValidator.isValid("0 0 13 * * ?"));
+    Assert.assertEquals(hits, cache.getHitCount());
+  }
+
+  @Test
+  public void testInvalidExpression() {
+    CronExpressionCache cache = new CronExpressionCache(10);
+    CronExpressionCache.Entry entry = cache.get("0 0 25 * * ?");
+    Assert.assertFalse(entry.isValid());
+    Assert.assertNull(entry.getCronExpression());
+    Assert.assertNull(entry.getDescription(Locale.ENGLISH));
+  }
+
+  @Test
+  public void testDescriptionIsCachedPerLocale() {
+    CronExpressionCache cache = new CronExpressionCache(10);
+    CronExpressionCache.Entry entry = cache.get("0 0 12 * * ?");
+    String description = entry.getDescription(Locale.ENGLISH);
+    Assert.assertNotNull(description);
+    Assert.assertSame(description, entry.getDescription(Locale.ENGLISH));
+  }
+
+  @Test
+  public void testEviction() {
+    CronExpressionCache cache = new CronExpressionCache(2);
+    cache.get("0 0 1 * * ?");
+    cache.get("0 0 2 * * ?");
+    cache.get("0 0 3 * * ?");
+    Assert.assertEquals(2, cache.size());
+    Assert.assertEquals(1, cache.getEvictionCount());
+  }
+}
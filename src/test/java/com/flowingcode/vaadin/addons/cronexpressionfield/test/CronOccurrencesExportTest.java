@@ -0,0 +1,72 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.flowingcode.vaadin.addons.cronexpressionfield.test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.flowingcode.vaadin.addons.cronexpressionfield.CronOccurrences;
+import com.flowingcode.vaadin.addons.cronexpressionfield.CronOccurrencesExport;
+
+public class CronOccurrencesExportTest {
+
+  private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+  @Test
+  public void testCsv() throws IOException {
+    StringWriter writer = new StringWriter();
+    CronOccurrencesExport.writeCsv("0 0 12 1,15 * MON", FROM, 3, writer);
+    String expected = "occurrence\r\n" + CronOccurrences.stream("0 0 12 1,15 * MON", FROM).limit(3)
+        .map(date -> date + ":00\r\n").collect(Collectors.joining());
+    Assert.assertEquals(expected, writer.toString());
+  }
+
+  @Test
+  public void testICalendarRecurrenceRule() throws IOException {
+    StringWriter writer = new StringWriter();
+    CronOccurrencesExport.writeICalendar("0 */15 9-17 ? * MON-FRI", FROM, 5000, writer);
+    String calendar = writer.toString().replace("\r\n ", "");
+    Assert.assertTrue(calendar.startsWith("BEGIN:VCALENDAR\r\n"));
+    Assert.assertTrue(calendar.contains("DTSTART:20250101T090000\r\n"));
+    Assert.assertTrue(calendar.contains("RRULE:FREQ=DAILY;BYDAY=MO,TU,WE,TH,FR;BYHOUR=9,10,11,12,13,14,15,16,17"
+        + ";BYMINUTE=0,15,30,45;BYSECOND=0;COUNT=5000\r\n"));
+    Assert.assertEquals(1, calendar.split("BEGIN:VEVENT").length - 1);
+    for (String line : writer.toString().split("\r\n")) {
+      Assert.assertTrue(line, line.length() <= 75);
+    }
+  }
+
+  @Test
+  public void testICalendarEventSeries() throws IOException {
+    StringWriter writer = new StringWriter();
+    CronOccurrencesExport.writeICalendar("0 0 12 L * *", FROM, 3, writer);
+    List<String> starts = writer.toString().lines().filter(line -> line.startsWith("DTSTART:"))
+        .collect(Collectors.toList());
+    Assert.assertEquals(List.of("DTSTART:20250131T120000", "DTSTART:20250228T120000", "DTSTART:20250331T120000"),
+        starts);
+    Assert.assertFalse(writer.toString().contains("RRULE"));
+  }
+}
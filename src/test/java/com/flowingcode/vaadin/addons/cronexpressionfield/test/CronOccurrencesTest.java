@@ -0,0 +1,79 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield.test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.flowingcode.vaadin.addons.cronexpressionfield.CronOccurrence;
+import com.flowingcode.vaadin.addons.cronexpressionfield.CronOccurrences;
+
+public class CronOccurrencesTest {
+
+  private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+  @Test
+  public void testMergeInTimeOrder() {
+    List<String> expressions = List.of("0 0 */6 * * *", "0 0 */4 * * *", "0 0 0 * * *");
+    List<CronOccurrence> merged = CronOccurrences.merge(expressions, FROM).limit(7).collect(Collectors.toList());
+    Assert.assertEquals(List.of(4, 6, 8, 12, 12, 16, 18),
+        merged.stream().map(o -> o.getDate().getHour()).collect(Collectors.toList()));
+    Assert.assertEquals("0 0 */6 * * *", merged.get(3).getExpression());
+    Assert.assertEquals("0 0 */4 * * *", merged.get(4).getExpression());
+  }
+
+  @Test
+  public void testMergeEqualsSortedStreams() {
+    List<String> expressions = List.of("0 0 9 * * MON-FRI", "0 */45 * * * *", "0 0 0 1 * ?", "0 0 0 29 2 MON");
+    List<LocalDateTime> expected = expressions.stream()
+        .flatMap(e -> CronOccurrences.stream(e, FROM).limit(500)).sorted().limit(500).collect(Collectors.toList());
+    List<LocalDateTime> merged =
+        CronOccurrences.merge(expressions, FROM).limit(500).map(CronOccurrence::getDate).collect(Collectors.toList());
+    Assert.assertEquals(expected, merged);
+  }
+
+  @Test
+  public void testCountEqualsStreamCount() {
+    LocalDateTime to = LocalDateTime.of(2026, 3, 17, 14, 30, 15);
+    for (String expression : List.of("*/7 */13 8-17 * * MON-FRI", "0 0 0 29 2 ?", "0 0 12 1,15 * MON",
+        "5,10 0 0 31 * *", "30 15 10 ? * SAT,SUN")) {
+      long expected = CronOccurrences.stream(expression, FROM.minusSeconds(1)).takeWhile(date -> date.isBefore(to))
+          .count();
+      Assert.assertEquals(expression, expected, CronOccurrences.count(expression, FROM, to));
+    }
+  }
+
+  @Test
+  public void testCountOverGregorianCycles() {
+    // Friday the 13th happens 688 times every 400 years
+    Assert.assertEquals(3 * 688,
+        CronOccurrences.count("0 0 0 13 * FRI", FROM, FROM.plusYears(1200)));
+    Assert.assertEquals(0, CronOccurrences.count("0 0 0 13 * FRI", FROM, FROM));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidExpression() {
+    CronOccurrences.merge(List.of("0 0 12 * * ?", "0 0 25 * * ?"), FROM);
+  }
+
+}
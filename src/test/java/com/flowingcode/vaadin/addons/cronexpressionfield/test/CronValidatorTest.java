@@ -0,0 +1,87 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield.test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.flowingcode.vaadin.addons.cronexpressionfield.CronAnalysis;
+import com.flowingcode.vaadin.addons.cronexpressionfield.CronValidationResult;
+import com.flowingcode.vaadin.addons.cronexpressionfield.CronValidator;
+
+public class CronValidatorTest {
+
+  @Test
+  public void testValidateAll() {
+    List<CronValidationResult> results =
+        CronValidator.validateAll(Arrays.asList("0 0 12 * * ?", "0 0 25 * * ?", "0 0 12 * *", ""));
+    Assert.assertEquals(4, results.size());
+    Assert.assertTrue(results.get(0).isValid());
+    Assert.assertEquals(-1, results.get(0).getErrorPosition());
+    Assert.assertFalse(results.get(1).isValid());
+    Assert.assertEquals(1, results.get(1).getIndex());
+    Assert.assertEquals(4, results.get(1).getErrorPosition());
+    Assert.assertFalse(results.get(2).isValid());
+    Assert.assertEquals(11, results.get(2).getErrorPosition());
+    Assert.assertFalse(results.get(3).isValid());
+    Assert.assertEquals(0, results.get(3).getErrorPosition());
+  }
+
+  @Test
+  public void testValidateAllInParallel() {
+    List<String> expressions = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      expressions.add(i % 2 == 0 ? "0 " + i % 60 + " * * * ?" : "0 " + (60 + i) + " * * * ?");
+    }
+    List<CronValidationResult> results = CronValidator.validateAll(expressions);
+    Assert.assertEquals(expressions.size(), results.size());
+    for (int i = 0; i < results.size(); i++) {
+      Assert.assertEquals(i, results.get(i).getIndex());
+      Assert.assertEquals(expressions.get(i), results.get(i).getExpression());
+      Assert.assertEquals(i % 2 == 0, results.get(i).isValid());
+    }
+  }
+
+  @Test
+  public void testNeverFires() {
+    for (String expression : List.of("0 0 0 30 2 *", "0 0 0 31 4,6,9,11 *")) {
+      CronValidationResult result = CronValidator.validate(expression);
+      Assert.assertFalse(result.isValid());
+      Assert.assertEquals(6, result.getErrorPosition());
+      Assert.assertTrue(result.getAnalysis().neverFires());
+    }
+  }
+
+  @Test
+  public void testIntervals() {
+    CronAnalysis analysis = CronValidator.validate("0 30 9,17 1-7 * SUN").getAnalysis();
+    Assert.assertFalse(analysis.neverFires());
+    Assert.assertEquals(Duration.ofHours(8), analysis.getMinimumInterval());
+    Assert.assertEquals(Duration.ofDays(34).plusHours(16), analysis.getMaximumInterval());
+
+    analysis = CronValidator.validate("0 0 0 29 2 MON").getAnalysis();
+    Assert.assertEquals(Duration.ofDays(4382), analysis.getMinimumInterval());
+  }
+
+}
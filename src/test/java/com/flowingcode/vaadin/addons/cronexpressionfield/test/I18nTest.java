@@ -0,0 +1,125 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.flowingcode.vaadin.addons.cronexpressionfield.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.flowingcode.vaadin.addons.cronexpressionfield.CronExpressionField;
+import com.flowingcode.vaadin.addons.cronexpressionfield.CronExpressionFieldI18n;
+import com.flowingcode.vaadin.addons.cronexpressionfield.LayoutOptions;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.textfield.TextField;
+
+public class I18nTest {
+
+  private static final Locale SPANISH = new Locale("es");
+
+  @After
+  public void tearDown() {
+    CronExpressionFieldI18n.setDefault(SPANISH, null);
+    CronExpressionFieldI18n.setDefault(Locale.ROOT, null);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testSharedDefaultIsReadOnly() {
+    CronExpressionFieldI18n shared = CronExpressionFieldI18n.getDefault(null);
+    Assert.assertSame(shared, CronExpressionFieldI18n.getDefault(Locale.GERMAN));
+    shared.setCronExpressionLabel("Expression");
+  }
+
+  @Test
+  public void testCreateDefaultOfLocaleIsWritable() {
+    CronExpressionFieldI18n shared = CronExpressionFieldI18n.getDefault(SPANISH);
+    CronExpressionFieldI18n custom = CronExpressionFieldI18n.createDefault(SPANISH);
+    Assert.assertNotSame(shared, custom);
+    Assert.assertEquals(shared.getCronExpressionLabel(), custom.getCronExpressionLabel());
+    Assert.assertSame(custom, custom.setClearBtn("Reset"));
+    Assert.assertEquals("Reset", custom.getClearBtn());
+    Assert.assertNotEquals("Reset", shared.getClearBtn());
+  }
+
+  @Test
+  public void testLocaleDefaults() {
+    CronExpressionFieldI18n spanish = CronExpressionFieldI18n.createDefault().setCronExpressionLabel("Expresión cron");
+    CronExpressionFieldI18n.setDefault(SPANISH, spanish);
+    spanish.setCronExpressionLabel("Expresión");
+    CronExpressionFieldI18n shared = CronExpressionFieldI18n.getDefault(new Locale("es", "AR"));
+    Assert.assertSame(shared, CronExpressionFieldI18n.getDefault(SPANISH));
+    Assert.assertEquals("Expresión cron", shared.getCronExpressionLabel());
+  }
+
+  @Test
+  public void testBundledTranslations() {
+    CronExpressionFieldI18n spanish = CronExpressionFieldI18n.getDefault(new Locale("es", "UY"));
+    Assert.assertEquals("Expresión cron", spanish.getCronExpressionLabel());
+    Assert.assertEquals("Avanzado", spanish.getLayoutOptions().get(LayoutOptions.ADVANCED));
+    Assert.assertSame(spanish, CronExpressionFieldI18n.getDefault(new Locale("es", "UY")));
+    Assert.assertSame(CronExpressionFieldI18n.getDefault(null), CronExpressionFieldI18n.getDefault(Locale.ENGLISH));
+  }
+
+  @Test
+  public void testSharedInstanceIsResolvedWhenDeserialized() throws IOException, ClassNotFoundException {
+    CronExpressionFieldI18n.setDefault(SPANISH, CronExpressionFieldI18n.createDefault());
+    CronExpressionFieldI18n shared = CronExpressionFieldI18n.getDefault(SPANISH);
+    Assert.assertSame(shared, roundTrip(shared));
+  }
+
+  @Test
+  public void testDefaultIsResolvedWhenDeserialized() throws IOException, ClassNotFoundException {
+    CronExpressionFieldI18n.setDefault(Locale.ROOT, CronExpressionFieldI18n.createDefault());
+    CronExpressionFieldI18n shared = CronExpressionFieldI18n.getDefault(null);
+    Assert.assertSame(shared, roundTrip(shared));
+  }
+
+  private static Object roundTrip(Object object) throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+      oos.writeObject(object);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+      return in.readObject();
+    }
+  }
+
+  @Test
+  public void testSetLocaleUpdatesLabels() {
+    CronExpressionField field = new CronExpressionField();
+    field.setLocale(new Locale("es", "UY"));
+    TextField input = descendants(field).filter(TextField.class::isInstance).map(TextField.class::cast).findFirst()
+        .orElseThrow();
+    Assert.assertEquals("Expresión cron", input.getLabel());
+    field.setI18n(CronExpressionFieldI18n.createDefault().setCronExpressionLabel("Expression"));
+    Assert.assertEquals("Expression", input.getLabel());
+  }
+
+  private static Stream<Component> descendants(Component component) {
+    return Stream.concat(Stream.of(component), component.getChildren().flatMap(I18nTest::descendants));
+  }
+}
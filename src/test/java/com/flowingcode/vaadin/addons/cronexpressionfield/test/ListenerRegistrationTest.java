@@ -0,0 +1,41 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.flowingcode.vaadin.addons.cronexpressionfield.CronExpressionField;
+
+public class ListenerRegistrationTest {
+
+  @Test
+  public void testListenerCountIsConstantWhenChangingConfiguration() {
+    CronExpressionField field = new CronExpressionField();
+    field.addCommonExpressions("0 0 2 4 1/2 ?", "0 0 2 ? * 1,2,3");
+    int count = field.getRegisteredListenerCount();
+    for (int i = 0; i < 10; i++) {
+      field.setCommonExpressionsVisible(i % 2 == 0);
+      field.setHelpEnabled(i % 2 == 0);
+      field.setCronInputEnabled(i % 2 == 0);
+    }
+    Assert.assertEquals(count, field.getRegisteredListenerCount());
+  }
+}
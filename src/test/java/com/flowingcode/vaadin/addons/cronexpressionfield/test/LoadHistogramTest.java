@@ -0,0 +1,61 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.cronexpressionfield.test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.flowingcode.vaadin.addons.cronexpressionfield.CronOccurrences;
+import com.flowingcode.vaadin.addons.cronexpressionfield.LoadHistogram;
+
+public class LoadHistogramTest {
+
+  private static final LocalDateTime FROM = LocalDateTime.of(2024, 2, 27, 13, 37, 12);
+
+  @Test
+  public void testSameCountsAsOccurrences() {
+    for (String expression : List.of("*/7 */13 8-17 * * MON-FRI", "0 0 0 29 2 ?", "0 */5 * 1-10 * *",
+        "30 15 10 ? * SAT,SUN")) {
+      for (ChronoUnit unit : List.of(ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.DAYS)) {
+        LoadHistogram histogram = LoadHistogram.compute(expression, FROM, unit, 500);
+        LocalDateTime start = histogram.getStart();
+        long[] expected = new long[histogram.size()];
+        CronOccurrences.stream(expression, start.minusSeconds(1))
+            .takeWhile(date -> date.isBefore(start.plus(expected.length, unit)))
+            .forEach(date -> expected[(int) unit.between(start, date)]++);
+        for (int i = 0; i < expected.length; i++) {
+          Assert.assertEquals(expression + " " + unit + " " + i, expected[i], histogram.getCount(i));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testDenseExpression() {
+    LoadHistogram histogram =
+        LoadHistogram.compute(List.of("* * * * * *", "0 * * * * *"), FROM, ChronoUnit.DAYS, 31);
+    Assert.assertEquals(31 * (86400 + 1440), histogram.getTotal());
+    Assert.assertEquals(86400 + 1440, histogram.getMaximum());
+  }
+
+}
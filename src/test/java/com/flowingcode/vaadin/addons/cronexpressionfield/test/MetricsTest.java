@@ -0,0 +1,67 @@
+/*-
+ * #%L
+ * Cron Expression Field Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.flowingcode.vaadin.addons.cronexpressionfield.test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.flowingcode.vaadin.addons.cronexpressionfield.CronExpressionField;
+import com.flowingcode.vaadin.addons.cronexpressionfield.CronExpressionFieldMetrics;
+import com.flowingcode.vaadin.addons.cronexpressionfield.MicrometerCronExpressionFieldMetrics;
+
+public class MetricsTest {
+
+  @After
+  public void tearDown() {
+    CronExpressionField.setMetrics(null);
+  }
+
+  @Test
+  public void testDisabledByDefault() {
+    Assert.assertSame(CronExpressionFieldMetrics.NOOP, CronExpressionField.getMetrics());
+    Assert.assertEquals(0L, CronExpressionFieldMetrics.NOOP.start());
+  }
+
+  @Test
+  public void testMeasurementsAreRecorded() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    CronExpressionField.setMetrics(new MicrometerCronExpressionFieldMetrics(registry));
+    CronExpressionField field = new CronExpressionField();
+    field.setValue("0 0 12 * * MON");
+    field.setValue("0 0 12 31 2 *");
+
+    long validations = registry.find("cron.expression.field.validation").timers().stream().mapToLong(Timer::count).sum();
+    Assert.assertTrue(validations >= 2);
+    long descriptions =
+        registry.find("cron.expression.field.description").timers().stream().mapToLong(Timer::count).sum();
+    Assert.assertTrue(descriptions >= 1);
+    double failures =
+        registry.find("cron.expression.field.parse.failures").counters().stream().mapToDouble(Counter::count).sum();
+    Assert.assertTrue(failures >= 1);
+    double lookups = registry.find("cron.expression.field.cache.gets").counters().stream()
+        .mapToDouble(Counter::count).sum();
+    Assert.assertTrue(lookups >= validations);
+  }
+}
@@ -24,23 +24,39 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
 import org.junit.Assert;
 import org.junit.Test;
 
 import com.flowingcode.vaadin.addons.cronexpressionfield.CronExpressionField;
+import com.flowingcode.vaadin.addons.cronexpressionfield.CronExpressionFieldI18n;
 
 public class SerializationTest {
 
-  private void testSerializationOf(Object obj) throws IOException, ClassNotFoundException {
+  /**
+   * Upper bound of the serialized size of a field with the default settings, with some headroom over its current size.
+   * Raise it only when a change knowingly adds state to the session.
+   */
+  private static final int MAXIMUM_SERIALIZED_SIZE = 128 * 1024;
+
+  private byte[] serialize(Object obj) throws IOException {
     ByteArrayOutputStream baos = new ByteArrayOutputStream();
     try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
       oos.writeObject(obj);
     }
-    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
-      obj.getClass().cast(in.readObject());
+    return baos.toByteArray();
+  }
+
+  private <T> T deserialize(byte[] bytes, Class<T> type) throws IOException, ClassNotFoundException {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return type.cast(in.readObject());
     }
   }
 
+  private void testSerializationOf(Object obj) throws IOException, ClassNotFoundException {
+    deserialize(serialize(obj), obj.getClass());
+  }
+
   @Test
   public void testSerialization() throws ClassNotFoundException, IOException {
     try {
@@ -49,4 +65,36 @@ public class SerializationTest {
       Assert.fail("Problem while testing serialization: " + e.getMessage());
     }
   }
+
+  @Test
+  public void testSerializedFormIsCompact() throws ClassNotFoundException, IOException {
+    byte[] bytes = serialize(new CronExpressionField());
+    Assert.assertTrue("Serialized size " + bytes.length, bytes.length <= MAXIMUM_SERIALIZED_SIZE);
+    String content = new String(bytes, StandardCharsets.ISO_8859_1);
+    Assert.assertFalse(content.contains("com.vaadin.flow.component.grid.Grid"));
+    Assert.assertFalse(content.contains(CronExpressionFieldI18n.class.getName()));
+  }
+
+  @Test
+  public void testSharedI18nIsNotSerialized() throws ClassNotFoundException, IOException {
+    byte[] shared = serialize(new CronExpressionField());
+    CronExpressionField field = new CronExpressionField();
+    field.setI18n(CronExpressionFieldI18n.createDefault(null).setClearBtn("Reset"));
+    byte[] custom = serialize(field);
+    String content = new String(custom, StandardCharsets.ISO_8859_1);
+    Assert.assertTrue(content.contains(CronExpressionFieldI18n.class.getName()));
+    Assert.assertTrue("Serialized sizes " + shared.length + " and " + custom.length, shared.length < custom.length);
+  }
+
+  @Test
+  public void testDeserializedFieldIsUsable() throws ClassNotFoundException, IOException {
+    CronExpressionField field = new CronExpressionField();
+    field.setValue("0 0 12 * * MON");
+    CronExpressionField copy = deserialize(serialize(field), CronExpressionField.class);
+    Assert.assertEquals("0 0 12 * * MON", copy.getValue());
+    copy.setValue("0 30 8 * * *");
+    copy.setI18n(CronExpressionFieldI18n.createDefault().setCronExpressionLabel("Expression"));
+    CronExpressionField custom = deserialize(serialize(copy), CronExpressionField.class);
+    Assert.assertEquals("0 30 8 * * *", custom.getValue());
+  }
 }
@@ -1,8 +1,10 @@
 package com.flowingcode.vaadin.addons.demo;
 
 import com.vaadin.flow.component.page.AppShellConfigurator;
+import com.vaadin.flow.component.page.Push;
 import com.vaadin.flow.theme.Theme;
 
+@Push
 @Theme
 public class AppShellConfiguratorImpl implements AppShellConfigurator {
 